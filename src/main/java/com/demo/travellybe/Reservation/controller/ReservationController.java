@@ -2,21 +2,26 @@ package com.demo.travellybe.Reservation.controller;
 
 import com.demo.travellybe.Reservation.domain.ReservationStatus;
 import com.demo.travellybe.Reservation.dto.*;
+import com.demo.travellybe.Reservation.event.ReservationEventStream;
+import com.demo.travellybe.Reservation.idempotency.ReservationIdempotency;
 import com.demo.travellybe.Reservation.service.ReservationService;
 import com.demo.travellybe.auth.dto.PrincipalDetails;
 import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,6 +32,8 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationIdempotency reservationIdempotency;
+    private final ReservationEventStream reservationEventStream;
 
     @GetMapping("/{id}")
     @Operation(summary = "예약 조회", description = "예약 ID로 예약을 조회합니다.",
@@ -51,6 +58,21 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getProductsBySellerId(principalDetails.getMember().getId()));
     }
 
+    @GetMapping(value = "/my/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "(판매자)예약 이벤트 구독",
+            description = "내 상품의 예약 생성(CREATED), 취소(CANCELED), 상태 변경(STATUS_CHANGED) 이벤트를 SSE로 받습니다.\n" +
+                    "이벤트가 없어도 주기적으로 heartbeat 주석을 보냅니다. 연결은 일정 시간(기본 60분) 후 서버가 정상 종료하므로,\n" +
+                    "연결이 끊기면 다시 연결하고 목록을 한 번 새로 조회하세요.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.",
+                            content = @Content(schema = @Schema(hidden = true)))
+            })
+    public SseEmitter streamMyReservationEvents(@AuthenticationPrincipal PrincipalDetails principalDetails) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        return reservationEventStream.openEmitter(principalDetails.getMember().getId());
+    }
+
     @GetMapping("/my/{productId}")
     @Operation(summary = "(판매자)예약 관리 상세", description = "상품의 예약 상세 목록을 조회합니다.",
             responses = {
@@ -80,8 +102,51 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getReservationsByBuyerId(principalDetails.getMember().getId()));
     }
 
+    @GetMapping("/my/reservations")
+    @Operation(summary = "(구매자)내 예약 커서 조회",
+            description = "내 예약 목록을 예약 날짜 최신순으로 조회합니다. 상태와 예약 날짜 기간으로 거를 수 있습니다.\n" +
+                    "다음 페이지는 이전 응답의 nextCursor를 cursor로 전달",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 조회 기간입니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.",
+                            content = @Content(schema = @Schema(hidden = true)))
+            })
+    public ResponseEntity<ReservationSliceResponseDto> getMyReservationsByCursor(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            ReservationSearchRequestDto requestDto) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        return ResponseEntity.ok(reservationService.getReservationsByBuyerId(principalDetails.getMember().getId(), requestDto));
+    }
+
+    @GetMapping("/my/{productId}/reservations")
+    @Operation(summary = "(판매자)상품 예약 커서 조회",
+            description = "상품의 예약 목록을 최근 예약 순으로 조회합니다. 상태와 예약 날짜 기간으로 거를 수 있습니다.\n" +
+                    "다음 페이지는 이전 응답의 nextCursor를 cursor로 전달",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 조회 기간입니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "403", description = "권한이 없습니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "404", description = "해당 상품을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(hidden = true)))
+            })
+    public ResponseEntity<ReservationSliceResponseDto> getProductReservationsByCursor(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @PathVariable Long productId,
+            ReservationSearchRequestDto requestDto) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        return ResponseEntity.ok(reservationService.getReservationsByProductId(
+                principalDetails.getMember().getId(), productId, requestDto));
+    }
+
     @PostMapping("/{productId}")
-    @Operation(summary = "예약 생성", description = "상품 ID로 예약을 추가합니다.",
+    @Operation(summary = "예약 생성", description = "상품 ID로 예약을 추가합니다.\n" +
+                    "Idempotency-Key를 보내면 같은 키로 재시도한 요청은 처음 응답을 그대로 돌려받습니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "성공"),
                     @ApiResponse(responseCode = "400", description = "예약 시간이 유효하지 않습니다.",
@@ -91,18 +156,84 @@ public class ReservationController {
                     @ApiResponse(responseCode = "403", description = "상품 소유자는 예약할 수 없습니다",
                             content = @Content(schema = @Schema(hidden = true))),
                     @ApiResponse(responseCode = "404", description = "해당 상품을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "409", description = "같은 요청을 처리 중입니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "422", description = "다른 요청에 사용된 Idempotency-Key입니다.",
                             content = @Content(schema = @Schema(hidden = true)))
             })
     public ResponseEntity<ReservationResponseDto> addReservation(@PathVariable Long productId,
                                @Valid @RequestBody ReservationCreateDto reservationCreateDto,
+                               @Parameter(description = "재시도 시 같은 값을 보내는 요청 식별자")
+                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                @AuthenticationPrincipal PrincipalDetails principalDetails) {
         if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
         Member member = principalDetails.getMember();
+        return ResponseEntity.ok(reservationIdempotency.execute(member.getId(), idempotencyKey, "create:" + productId,
+                reservationCreateDto, ReservationResponseDto.class, () -> {
+                    // 상품 소유자는 예약할 수 없음
+                    reservationService.checkProductOwner(productId, member.getId());
+                    // 예약 시간이 유효한지 확인
+                    reservationService.checkOperationDateTime(productId, reservationCreateDto);
+                    return reservationService.createReservation(member.getId(), productId, reservationCreateDto);
+                }));
+    }
+
+    @PostMapping("/{productId}/hold")
+    @Operation(summary = "예약 홀드", description = "예약 수량을 일정 시간 동안 확보합니다. 만료 전에 확정하지 않으면 수량이 반환됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "400", description = "예약 시간이 유효하지 않거나 수량이 부족합니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "404", description = "해당 상품을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(hidden = true)))
+            })
+    public ResponseEntity<ReservationHoldResponseDto> holdReservation(@PathVariable Long productId,
+                                                                      @Valid @RequestBody ReservationCreateDto reservationCreateDto,
+                                                                      @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        Member member = principalDetails.getMember();
         // 상품 소유자는 예약할 수 없음
         reservationService.checkProductOwner(productId, member.getId());
         // 예약 시간이 유효한지 확인
         reservationService.checkOperationDateTime(productId, reservationCreateDto);
-        return ResponseEntity.ok(reservationService.createReservation(member.getId(), productId, reservationCreateDto));
+        return ResponseEntity.ok(reservationService.holdReservation(member.getId(), productId, reservationCreateDto));
+    }
+
+    @PostMapping("/hold/{holdId}/confirm")
+    @Operation(summary = "예약 홀드 확정", description = "홀드한 수량으로 예약을 생성합니다.\n" +
+                    "Idempotency-Key를 보내면 같은 키로 재시도한 요청은 처음 응답을 그대로 돌려받습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.",
+                            content = @Content(schema = @Schema(hidden = true))),
+                    @ApiResponse(responseCode = "404", description = "해당 홀드를 찾을 수 없거나 만료되었습니다.",
+                            content = @Content(schema = @Schema(hidden = true)))
+            })
+    public ResponseEntity<ReservationResponseDto> confirmHold(@PathVariable String holdId,
+                                                              @Parameter(description = "재시도 시 같은 값을 보내는 요청 식별자")
+                                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                              @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        Long memberId = principalDetails.getMember().getId();
+        return ResponseEntity.ok(reservationIdempotency.execute(memberId, idempotencyKey, "confirm:" + holdId,
+                null, ReservationResponseDto.class, () -> reservationService.confirmHold(memberId, holdId)));
+    }
+
+    @DeleteMapping("/hold/{holdId}")
+    @Operation(summary = "예약 홀드 취소", description = "홀드를 취소하고 수량을 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다."),
+                    @ApiResponse(responseCode = "404", description = "해당 홀드를 찾을 수 없거나 만료되었습니다.")
+            })
+    public ResponseEntity<Void> cancelHold(@PathVariable String holdId,
+                                           @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
+        reservationService.cancelHold(principalDetails.getMember().getId(), holdId);
+        return ResponseEntity.ok().build();
     }
 
     @GetMapping("/reject/{reservationId}")
@@ -145,16 +276,25 @@ public class ReservationController {
     }
 
     @PatchMapping("/{id}/cancel")
-    @Operation(summary = "예약 취소", description = "상품 구매자가 예약을 취소합니다.",
+    @Operation(summary = "예약 취소", description = "상품 구매자가 예약을 취소합니다.\n" +
+                    "Idempotency-Key를 보내면 같은 키로 재시도한 요청은 다시 처리하지 않습니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "성공"),
-                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다.")
+                    @ApiResponse(responseCode = "401", description = "로그인이 필요합니다."),
+                    @ApiResponse(responseCode = "409", description = "같은 요청을 처리 중입니다."),
+                    @ApiResponse(responseCode = "422", description = "다른 요청에 사용된 Idempotency-Key입니다.")
             })
     public ResponseEntity<Void> cancelReservation(@PathVariable Long id,
+                                                  @Parameter(description = "재시도 시 같은 값을 보내는 요청 식별자")
+                                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                   @AuthenticationPrincipal PrincipalDetails principalDetails) {
         if (principalDetails == null) throw new CustomException(ErrorCode.LOGIN_REQUIRED);
         // TODO: 구매자만 예약 취소 가능
-        reservationService.cancelReservation(id);
+        reservationIdempotency.execute(principalDetails.getMember().getId(), idempotencyKey, "cancel:" + id,
+                null, Void.class, () -> {
+                    reservationService.cancelReservation(id);
+                    return null;
+                });
         return ResponseEntity.ok().build();
     }
 }
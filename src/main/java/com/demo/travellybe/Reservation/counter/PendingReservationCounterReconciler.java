@@ -0,0 +1,129 @@
+package com.demo.travellybe.Reservation.counter;
+
+import com.demo.travellybe.Reservation.domain.PendingReservationCounter;
+import com.demo.travellybe.Reservation.domain.PendingReservationCounterType;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.repository.OwnerCount;
+import com.demo.travellybe.Reservation.repository.PendingReservationCounterRepository;
+import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import com.demo.travellybe.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 대기 예약 카운터를 실제 대기 예약 수와 비교하여 어긋난 값을 고친다.
+ * 상품(판매자) ID 순서로 청크 단위로 처리하며, 청크마다 카운터 행을 잠근 뒤 예약 수를 세므로
+ * 보정하는 동안 상태가 바뀐 예약은 잠금이 풀린 뒤 카운터에 반영된다.
+ * 여러 서버 중 하나만 실행하도록 Redis 잠금을 사용한다.
+ */
+@Slf4j
+@Component
+public class PendingReservationCounterReconciler {
+
+    private static final String LOCK_KEY = "reservation:counter:reconcile:lock";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 보정 값을 더할 카운터 행
+    private static final int REPAIR_STRIPE = 0;
+
+    private final PendingReservationCounterRepository counterRepository;
+    private final ReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repaired;
+    private final int chunkSize;
+    private final Duration lockTimeout;
+
+    public PendingReservationCounterReconciler(PendingReservationCounterRepository counterRepository,
+                                               ReservationRepository reservationRepository,
+                                               ProductRepository productRepository,
+                                               RedisTemplate<String, String> redisTemplate,
+                                               TransactionTemplate transactionTemplate,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${reservation.counter.reconcile-chunk-size:500}") int chunkSize,
+                                               @Value("${reservation.counter.reconcile-lock-timeout-minutes:10}") long lockTimeoutMinutes) {
+        this.counterRepository = counterRepository;
+        this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.repaired = Counter.builder("reservation.counter.repaired")
+                .description("보정한 대기 예약 카운터 수")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+        this.lockTimeout = Duration.ofMinutes(lockTimeoutMinutes);
+    }
+
+    @Scheduled(cron = "${reservation.counter.reconcile-cron:0 */10 * * * *}")
+    public void reconcile() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTimeout);
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            int fixed = reconcile(PendingReservationCounterType.PRODUCT) + reconcile(PendingReservationCounterType.SELLER);
+            repaired.increment(fixed);
+            if (fixed > 0) log.warn("대기 예약 카운터 {}건 보정", fixed);
+        } catch (RuntimeException e) {
+            log.warn("대기 예약 카운터 보정 실패", e);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    private int reconcile(PendingReservationCounterType ownerType) {
+        int fixed = 0;
+        Long lastId = 0L;
+        while (true) {
+            PageRequest chunk = PageRequest.of(0, chunkSize);
+            List<Long> ownerIds = ownerType == PendingReservationCounterType.PRODUCT
+                    ? productRepository.findIdsAfter(lastId, chunk)
+                    : productRepository.findSellerIdsAfter(lastId, chunk);
+            if (ownerIds.isEmpty()) return fixed;
+
+            Integer chunkFixed = transactionTemplate.execute(status -> reconcileChunk(ownerType, ownerIds));
+            fixed += chunkFixed != null ? chunkFixed : 0;
+
+            if (ownerIds.size() < chunkSize) return fixed;
+            lastId = ownerIds.getLast();
+        }
+    }
+
+    private int reconcileChunk(PendingReservationCounterType ownerType, List<Long> ownerIds) {
+        // 카운터 행을 먼저 잠가, 예약 상태를 바꾸는 트랜잭션이 카운터를 갱신하지 못하게 한 뒤 예약 수를 셈
+        Map<Long, Integer> counted = counterRepository.findForUpdate(ownerType, ownerIds).stream()
+                .collect(Collectors.groupingBy(PendingReservationCounter::getOwnerId,
+                        Collectors.summingInt(PendingReservationCounter::getPending)));
+        List<OwnerCount> actualCounts = ownerType == PendingReservationCounterType.PRODUCT
+                ? reservationRepository.countByProductIdsAndStatus(ownerIds, ReservationStatus.PENDING)
+                : reservationRepository.countBySellerIdsAndStatus(ownerIds, ReservationStatus.PENDING);
+        Map<Long, Integer> actual = actualCounts.stream()
+                .collect(Collectors.toMap(OwnerCount::getOwnerId, count -> count.getCount().intValue()));
+
+        int fixed = 0;
+        for (Long ownerId : ownerIds) {
+            int drift = actual.getOrDefault(ownerId, 0) - counted.getOrDefault(ownerId, 0);
+            if (drift == 0) continue;
+            counterRepository.add(ownerType.name(), ownerId, REPAIR_STRIPE, drift);
+            fixed++;
+        }
+        return fixed;
+    }
+}
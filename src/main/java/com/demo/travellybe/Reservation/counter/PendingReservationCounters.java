@@ -0,0 +1,88 @@
+package com.demo.travellybe.Reservation.counter;
+
+import com.demo.travellybe.Reservation.domain.PendingReservationCounterType;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.repository.OwnerCount;
+import com.demo.travellybe.Reservation.repository.PendingReservationCounterRepository;
+import com.demo.travellybe.product.repository.ProductRepository;
+import com.demo.travellybe.product.repository.ProductSeller;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별, 판매자별 대기(PENDING) 예약 수를 예약 상태를 바꾸는 트랜잭션 안에서 함께 갱신한다.
+ * 조회는 카운터 행(최대 STRIPES개)만 합하므로 예약 이력의 크기와 관계없다.
+ * 잠금 순서를 맞추기 위해 항상 상품 카운터를 먼저, 판매자 카운터를 나중에 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingReservationCounters {
+
+    // 상품(판매자)별 카운터 행 수
+    static final int STRIPES = 8;
+
+    private final PendingReservationCounterRepository counterRepository;
+    private final ProductRepository productRepository;
+
+    // 예약 상태 변경 (새 예약은 from = null)
+    public void onStatusChanged(Long productId, Long sellerId, ReservationStatus from, ReservationStatus to) {
+        int delta = pendingOf(to) - pendingOf(from);
+        if (delta != 0) add(productId, sellerId, delta);
+    }
+
+    public void add(Long productId, Long sellerId, int delta) {
+        addToStripe(PendingReservationCounterType.PRODUCT, productId, delta);
+        addToStripe(PendingReservationCounterType.SELLER, sellerId, delta);
+    }
+
+    // 여러 상품의 예약 상태를 한 번에 바꾼 경우 (productId -> 증감)
+    public void addAll(Map<Long, Integer> productDeltas) {
+        if (productDeltas.isEmpty()) return;
+        Map<Long, Long> sellers = productRepository.findSellersByIdIn(List.copyOf(productDeltas.keySet())).stream()
+                .collect(Collectors.toMap(ProductSeller::getProductId, ProductSeller::getSellerId));
+
+        // ID 순서로 갱신하여 다른 트랜잭션과 교착 상태가 생기지 않도록 함
+        Map<Long, Integer> sellerDeltas = new TreeMap<>();
+        new TreeMap<>(productDeltas).forEach((productId, delta) -> {
+            addToStripe(PendingReservationCounterType.PRODUCT, productId, delta);
+            Long sellerId = sellers.get(productId);
+            if (sellerId != null) sellerDeltas.merge(sellerId, delta, Integer::sum);
+        });
+        sellerDeltas.forEach((sellerId, delta) -> addToStripe(PendingReservationCounterType.SELLER, sellerId, delta));
+    }
+
+    // 상품 삭제 시 (예약도 함께 삭제됨) 판매자 카운터에서 상품의 대기 예약 수를 빼고 상품 카운터를 삭제
+    public void removeProduct(Long productId) {
+        int pending = (int) counterRepository.sumPending(PendingReservationCounterType.PRODUCT, productId);
+        if (pending != 0) {
+            productRepository.findSellersByIdIn(List.of(productId))
+                    .forEach(seller -> addToStripe(PendingReservationCounterType.SELLER, seller.getSellerId(), -pending));
+        }
+        counterRepository.deleteByOwner(PendingReservationCounterType.PRODUCT, productId);
+    }
+
+    public int getSellerCount(Long sellerId) {
+        return (int) Math.max(0, counterRepository.sumPending(PendingReservationCounterType.SELLER, sellerId));
+    }
+
+    // 상품 ID -> 대기 예약 수 (대기 예약이 없는 상품은 포함되지 않을 수 있음)
+    public Map<Long, Integer> getProductCounts(List<Long> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+        return counterRepository.sumPendingByOwnerIds(PendingReservationCounterType.PRODUCT, productIds).stream()
+                .collect(Collectors.toMap(OwnerCount::getOwnerId, count -> (int) Math.max(0, count.getCount())));
+    }
+
+    private void addToStripe(PendingReservationCounterType ownerType, Long ownerId, int delta) {
+        counterRepository.add(ownerType.name(), ownerId, ThreadLocalRandom.current().nextInt(STRIPES), delta);
+    }
+
+    private static int pendingOf(ReservationStatus status) {
+        return status == ReservationStatus.PENDING ? 1 : 0;
+    }
+}
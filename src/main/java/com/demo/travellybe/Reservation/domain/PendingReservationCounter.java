@@ -0,0 +1,38 @@
+package com.demo.travellybe.Reservation.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별, 판매자별 대기(PENDING) 예약 수.
+ * 같은 상품(판매자)의 예약끼리 한 행을 두고 경합하지 않도록 여러 행(stripe)에 나누어 더하고, 읽을 때는 모든 행을 합한다.
+ * 행 하나의 값은 음수일 수 있으며 합계만 의미가 있다.
+ * 상품, 회원 행을 잠그지 않도록 owner_id는 외래 키 없이 값으로만 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_pending_reservation_counter_stripe",
+        columnNames = {"owner_type", "owner_id", "stripe"}))
+public class PendingReservationCounter {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pending_reservation_counter_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", nullable = false, length = 20)
+    private PendingReservationCounterType ownerType;
+
+    // 상품 ID 또는 판매자(회원) ID
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private int stripe;
+
+    @Column(nullable = false)
+    private int pending;
+}
@@ -0,0 +1,6 @@
+package com.demo.travellybe.Reservation.domain;
+
+public enum PendingReservationCounterType {
+    PRODUCT, // 상품별
+    SELLER // 판매자별
+}
@@ -9,12 +9,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_reservation_status_date", columnList = "status, date"),
+        @Index(name = "idx_reservation_buyer_status_product", columnList = "member_id, status, product_id"),
+        @Index(name = "idx_reservation_buyer_date", columnList = "member_id, date"),
+        @Index(name = "idx_reservation_product_status", columnList = "product_id, status")
+})
 public class Reservation extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -47,6 +54,9 @@ public class Reservation extends BaseTimeEntity {
     @Column(nullable = false)
     private LocalDate date;
 
+    // 예약한 운영 시간의 시작 시간 (하루 전체 예약이면 null)
+    private LocalTime startTime;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ReservationStatus status = ReservationStatus.PENDING;
@@ -59,7 +69,7 @@ public class Reservation extends BaseTimeEntity {
     private int totalTicketCount;
 
     public static Reservation of(Product product, Member buyer, String name, String phone, String email,
-                                 LocalDate date, int totalPrice, int totalTicketCount) {
+                                 LocalDate date, LocalTime startTime, int totalPrice, int totalTicketCount) {
         Reservation reservation = new Reservation();
         reservation.product = product;
         reservation.buyer = buyer;
@@ -67,6 +77,7 @@ public class Reservation extends BaseTimeEntity {
         reservation.phone = phone;
         reservation.email = email;
         reservation.date = date;
+        reservation.startTime = startTime;
         reservation.totalPrice = totalPrice;
         reservation.totalTicketCount = totalTicketCount;
         return reservation;
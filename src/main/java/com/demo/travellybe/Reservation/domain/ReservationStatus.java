@@ -5,5 +5,19 @@ public enum ReservationStatus {
     REJECTED, // 거절
     ACCEPTED, // 수락
     CANCELED, // 취소
-    EXPIRED // 기간 만료
+    EXPIRED; // 기간 만료
+
+    // 대기 중인 예약만 수락, 거절, 취소, 만료할 수 있고 수락된 예약은 취소만 할 수 있음
+    public boolean canChangeTo(ReservationStatus next) {
+        return switch (this) {
+            case PENDING -> next != PENDING;
+            case ACCEPTED -> next == CANCELED;
+            default -> false;
+        };
+    }
+
+    // 이 상태로 바뀔 때 포인트와 수량을 돌려주는지 여부
+    public boolean isRefunded() {
+        return this == REJECTED || this == CANCELED;
+    }
 }
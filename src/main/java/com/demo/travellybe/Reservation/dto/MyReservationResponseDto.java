@@ -31,7 +31,7 @@ public class MyReservationResponseDto {
         this.productName = product.getName();
         this.productImages = product.getImages().stream().map(ProductImageDto::new).toList();
         this.productPrice = product.getMaxPrice();
-        this.operationDays = product.getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = product.getOperationSchedule();
         this.reservations = reservations.stream().map(ReservationResponseDto::new).toList();
     }
 }
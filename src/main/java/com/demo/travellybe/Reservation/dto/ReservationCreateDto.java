@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 @Getter
@@ -25,4 +26,7 @@ public class ReservationCreateDto {
 
     @NotNull
     private LocalDate date;
+
+    @Schema(description = "예약할 운영 시간의 시작 시간 (하루 전체 예약이면 생략)", example = "09:00")
+    private LocalTime startTime;
 }
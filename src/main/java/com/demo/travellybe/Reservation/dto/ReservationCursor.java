@@ -0,0 +1,42 @@
+package com.demo.travellybe.Reservation.dto;
+
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 커서. 마지막 예약의 날짜와 예약 ID를 담아 Base64 문자열로 주고받는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReservationCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDate date;
+    private final Long reservationId;
+
+    public static String encode(Reservation reservation) {
+        String raw = reservation.getDate() + DELIMITER + reservation.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) throw new CustomException(ErrorCode.RESERVATION_INVALID_CURSOR);
+            return new ReservationCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.RESERVATION_INVALID_CURSOR);
+        }
+    }
+}
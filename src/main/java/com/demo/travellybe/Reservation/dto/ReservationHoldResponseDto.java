@@ -0,0 +1,39 @@
+package com.demo.travellybe.Reservation.dto;
+
+import com.demo.travellybe.Reservation.hold.ReservationHold;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationHoldResponseDto {
+    @Schema(description = "홀드 ID", example = "5f0c4f3e-7a59-4d8e-9d55-0c7f3d0f8a21")
+    private String holdId;
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+    private LocalDate date;
+    @Schema(description = "예약할 운영 시간의 시작 시간", example = "09:00")
+    private LocalTime startTime;
+    @Schema(description = "확보한 수량", example = "2")
+    private int totalQuantity;
+    @Schema(description = "홀드 만료 시각 (이 시각까지 확정하지 않으면 수량이 반환됨)")
+    private LocalDateTime expiresAt;
+
+    public ReservationHoldResponseDto(ReservationHold hold) {
+        this.holdId = hold.getId();
+        this.productId = hold.getProductId();
+        this.date = hold.getRequest().getDate();
+        this.startTime = hold.getRequest().getStartTime();
+        this.totalQuantity = hold.getTotalQuantity();
+        this.expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.getExpiresAt()), ZoneId.systemDefault());
+    }
+}
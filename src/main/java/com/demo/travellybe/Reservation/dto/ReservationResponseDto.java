@@ -1,19 +1,23 @@
 package com.demo.travellybe.Reservation.dto;
 
 import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationTicket;
 import com.demo.travellybe.product.domain.Ticket;
 import com.demo.travellybe.product.dto.ProductImageDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ReservationResponseDto {
     @Schema(description = "예약 ID", example = "1")
     private Long id;
@@ -30,6 +34,8 @@ public class ReservationResponseDto {
     private String email;
 
     private LocalDate date;
+    @Schema(description = "예약한 운영 시간의 시작 시간", example = "09:00")
+    private LocalTime startTime;
     private List<ReservationTicketResponseDto> tickets;
 
     @Schema(description = "예약 총 가격", example = "20000")
@@ -40,21 +46,29 @@ public class ReservationResponseDto {
     private String rejectReason;
 
     public ReservationResponseDto(Reservation reservation) {
+        this(reservation, reservation.getReservationTickets(), reservation.getProduct().getTickets(),
+                reservation.getProduct().getImages().stream().map(ProductImageDto::new).toList());
+    }
+
+    // 예약 티켓, 상품 티켓, 상품 이미지를 예약 목록 단위로 한 번에 조회한 경우
+    public ReservationResponseDto(Reservation reservation, List<ReservationTicket> reservationTickets,
+                                  List<Ticket> productTickets, List<ProductImageDto> productImages) {
         this.id = reservation.getId();
         this.productId = reservation.getProduct().getId();
         this.productName = reservation.getProduct().getName();
-        this.productImages = reservation.getProduct().getImages().stream().map(ProductImageDto::new).toList();
+        this.productImages = productImages;
         this.buyerName = reservation.getBuyer().getNickname();
         this.phone = reservation.getPhone();
         this.email = reservation.getEmail();
         this.date = reservation.getDate();
+        this.startTime = reservation.getStartTime();
         // 예약한 티켓
-        List<ReservationTicketResponseDto> reservedTicket = reservation.getReservationTickets().stream()
+        List<ReservationTicketResponseDto> reservedTicket = reservationTickets.stream()
                 .map(ReservationTicketResponseDto::new)
                 .toList();
         // 예약하지 않은 티켓
-        List<Ticket> unreservedTicket = reservation.getProduct().getTickets().stream()
-                .filter(t -> reservation.getReservationTickets().stream()
+        List<Ticket> unreservedTicket = productTickets.stream()
+                .filter(t -> reservationTickets.stream()
                         .noneMatch(rt -> rt.getTicket().getId().equals(t.getId())))
                 .toList();
         List<ReservationTicketResponseDto> allTickets = new ArrayList<>();
@@ -62,7 +76,7 @@ public class ReservationResponseDto {
         allTickets.addAll(unreservedTicket.stream().map(ReservationTicketResponseDto::new).collect(Collectors.toList()));
         this.tickets = allTickets;
 
-        this.totalPrice = reservation.getReservationTickets().stream()
+        this.totalPrice = reservationTickets.stream()
                 .mapToInt(rt -> rt.getTicket().getPrice() * rt.getQuantity())
                 .sum();
         this.status = reservation.getStatus().name();
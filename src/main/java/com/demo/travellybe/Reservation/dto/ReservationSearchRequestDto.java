@@ -0,0 +1,35 @@
+package com.demo.travellybe.Reservation.dto;
+
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+public class ReservationSearchRequestDto {
+
+    private static final int MAX_SIZE = 50;
+
+    @Schema(description = "예약 상태 (생략하면 전체)", example = "PENDING")
+    private ReservationStatus status;
+
+    @Schema(description = "예약 날짜 조회 시작일", example = "2024-06-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @Schema(description = "예약 날짜 조회 종료일", example = "2024-06-30")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    @Schema(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+    private String cursor;
+
+    @Schema(description = "페이지 크기 (최대 50)", example = "20")
+    private int size = 20;
+
+    public int resolveSize() {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.demo.travellybe.Reservation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReservationSliceResponseDto {
+
+    private List<ReservationResponseDto> content;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public ReservationSliceResponseDto(List<ReservationResponseDto> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -4,10 +4,12 @@ import com.demo.travellybe.Reservation.domain.ReservationTicket;
 import com.demo.travellybe.product.domain.Ticket;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ReservationTicketResponseDto {
     @Schema(description = "티켓 ID", example = "1")
     private Long id;
@@ -0,0 +1,41 @@
+package com.demo.travellybe.Reservation.event;
+
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자에게 보내는 예약 변경 이벤트. 서버 간에는 Redis pub/sub으로 JSON으로 주고받는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationEvent {
+
+    @Schema(example = "CREATED, CANCELED, STATUS_CHANGED")
+    private ReservationEventType type;
+    @Schema(description = "예약 ID", example = "1")
+    private Long reservationId;
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+    @Schema(description = "판매자 ID", example = "1")
+    private Long sellerId;
+    @Schema(example = "PENDING, REJECTED, ACCEPTED, CANCELED, EXPIRED")
+    private ReservationStatus status;
+    private LocalDateTime occurredAt;
+
+    public static ReservationEvent of(ReservationEventType type, Reservation reservation, Long sellerId) {
+        ReservationEvent event = new ReservationEvent();
+        event.type = type;
+        event.reservationId = reservation.getId();
+        event.productId = reservation.getProduct().getId();
+        event.sellerId = sellerId;
+        event.status = reservation.getStatus();
+        event.occurredAt = LocalDateTime.now();
+        return event;
+    }
+}
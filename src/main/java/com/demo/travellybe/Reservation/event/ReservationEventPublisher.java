@@ -0,0 +1,46 @@
+package com.demo.travellybe.Reservation.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 예약 변경 이벤트를 커밋 이후 Redis 채널로 발행한다. 모든 서버의 ReservationEventStream이 받아 판매자 연결로 보낸다.
+ * 이벤트는 알림 용도이므로 발행에 실패해도 예약 처리는 실패시키지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    public static final String CHANNEL = "reservation:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publishAfterCommit(ReservationEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    private void publish(ReservationEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("예약 이벤트 발행 실패: {} {}", event.getType(), event.getReservationId(), e);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.demo.travellybe.Reservation.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.reactivestreams.Subscription;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 판매자별 예약 이벤트 SSE 스트림.
+ * Redis 채널로 받은 이벤트 중 이 서버에 연결된 판매자의 이벤트만 해당 판매자의 연결(여러 탭 포함)로 보낸다.
+ * 연결마다 버퍼 크기를 제한하고, 클라이언트가 느려 버퍼가 차면 오래된 이벤트부터 버려 다른 연결과 서버 메모리에 영향을 주지 않는다.
+ * 전송(블로킹)은 Redis 리스너 스레드가 아닌 전송 스레드에서 하나씩 요청해 처리하므로, 느린 연결이 다른 판매자의 이벤트 전달을 막지 않는다.
+ * 프록시가 유휴 연결을 끊지 않도록 이벤트가 없어도 주기적으로 heartbeat 주석을 보낸다.
+ * MVC 비동기 요청 기본 시간 제한(Tomcat 30초)에 걸리지 않도록 연결마다 긴 시간 제한(timeout-minutes)을 두고,
+ * 시간이 지나면 AsyncRequestTimeoutException 대신 스트림을 정상 종료하여 클라이언트(EventSource)가 다시 연결하게 한다.
+ */
+@Slf4j
+@Component
+public class ReservationEventStream implements MessageListener {
+
+    private static final String HEARTBEAT = "heartbeat";
+    // 전송 스레드로 넘기기 전 대기열 크기 (나머지는 연결의 버퍼에 쌓임)
+    private static final int SEND_PREFETCH = 1;
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration heartbeatInterval;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Scheduler sendScheduler;
+
+    // 판매자 ID -> 연결된 스트림 (연결이 모두 끊기면 제거)
+    private final Map<Long, SellerChannel> channels = new ConcurrentHashMap<>();
+
+    public ReservationEventStream(RedisMessageListenerContainer listenerContainer,
+                                  ObjectMapper objectMapper,
+                                  @Value("${reservation.events.heartbeat-seconds:15}") long heartbeatSeconds,
+                                  @Value("${reservation.events.buffer-size:256}") int bufferSize,
+                                  @Value("${reservation.events.timeout-minutes:60}") long timeoutMinutes,
+                                  @Value("${reservation.events.send-threads:32}") int sendThreads) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.heartbeatInterval = Duration.ofSeconds(heartbeatSeconds);
+        this.bufferSize = bufferSize;
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.sendScheduler = Schedulers.newBoundedElastic(sendThreads,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "reservation-event-send");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(ReservationEventPublisher.CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendScheduler.dispose();
+    }
+
+    public Flux<ServerSentEvent<ReservationEvent>> connect(Long sellerId) {
+        Flux<ServerSentEvent<ReservationEvent>> events = Flux.defer(() -> open(sellerId).asFlux())
+                .onBackpressureBuffer(bufferSize,
+                        dropped -> log.debug("느린 연결의 예약 이벤트 버림: seller {} reservation {}", sellerId, dropped.getReservationId()),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .build())
+                .doFinally(signal -> close(sellerId));
+
+        Flux<ServerSentEvent<ReservationEvent>> heartbeats = Flux.interval(heartbeatInterval)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.<ReservationEvent>builder().comment(HEARTBEAT).build());
+
+        // merge가 미리 가져가는 이벤트도 버퍼 크기 제한을 벗어나지 않도록 하나씩 가져옴
+        return Flux.merge(SEND_PREFETCH, events, heartbeats);
+    }
+
+    /**
+     * 판매자의 이벤트 스트림을 시간 제한이 있는 SseEmitter로 연결한다.
+     * 시간 제한이 지나거나 클라이언트 연결이 끊기면 스트림 구독을 해제한다.
+     */
+    public SseEmitter openEmitter(Long sellerId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Disposable subscription = subscribe(sellerId, event -> send(emitter, event),
+                emitter::completeWithError, emitter::complete);
+        // 시간 제한에서 정상 종료하면 AsyncRequestTimeoutException이 발생하지 않음
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+        return emitter;
+    }
+
+    /**
+     * 판매자의 이벤트 스트림을 전송 스레드에서 구독한다.
+     * 전송을 마칠 때마다 다음 이벤트를 하나 요청하므로 전송이 밀리면 연결의 버퍼가 차고 오래된 이벤트가 버려진다.
+     */
+    Disposable subscribe(Long sellerId, Consumer<ServerSentEvent<ReservationEvent>> sender,
+                         Consumer<Throwable> onError, Runnable onComplete) {
+        BaseSubscriber<ServerSentEvent<ReservationEvent>> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            // 전송 중 예외는 구독을 취소하고 hookOnError로 전달됨
+            @Override
+            protected void hookOnNext(ServerSentEvent<ReservationEvent> event) {
+                sender.accept(event);
+                request(1);
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                onError.accept(throwable);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                onComplete.run();
+            }
+        };
+        connect(sellerId).publishOn(sendScheduler, SEND_PREFETCH).subscribe(subscriber);
+        return subscriber;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ReservationEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), ReservationEvent.class);
+        } catch (IOException e) {
+            log.warn("잘못된 예약 이벤트 메시지", e);
+            return;
+        }
+        SellerChannel channel = channels.get(event.getSellerId());
+        if (channel != null) channel.emit(event);
+    }
+
+    // 전송 실패(연결 끊김)는 예외로 스트림 구독을 취소
+    private void send(SseEmitter emitter, ServerSentEvent<ReservationEvent> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.comment() != null) builder.comment(event.comment());
+        if (event.event() != null) builder.name(event.event());
+        if (event.data() != null) builder.data(event.data(), MediaType.APPLICATION_JSON);
+        try {
+            emitter.send(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 연결 수를 함께 세어, 마지막 연결이 끊긴 직후 새 연결이 제거될 채널에 붙지 않도록 함
+    private Sinks.Many<ReservationEvent> open(Long sellerId) {
+        return channels.compute(sellerId, (id, channel) -> {
+            SellerChannel opened = channel != null ? channel : new SellerChannel();
+            opened.connections++;
+            return opened;
+        }).sink;
+    }
+
+    private void close(Long sellerId) {
+        channels.computeIfPresent(sellerId, (id, channel) -> --channel.connections > 0 ? channel : null);
+    }
+
+    private static class SellerChannel {
+        // 구독자별 버퍼는 onBackpressureBuffer가 관리하므로 채널은 버퍼 없이 전달만 함
+        private final Sinks.Many<ReservationEvent> sink = Sinks.many().multicast().directBestEffort();
+        private int connections;
+
+        // 리스너 스레드가 여러 개일 수 있으므로 발행을 직렬화 (버퍼에 넣기만 하고 전송은 기다리지 않음)
+        private synchronized void emit(ReservationEvent event) {
+            sink.tryEmitNext(event);
+        }
+    }
+}
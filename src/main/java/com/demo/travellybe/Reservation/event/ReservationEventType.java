@@ -0,0 +1,7 @@
+package com.demo.travellybe.Reservation.event;
+
+public enum ReservationEventType {
+    CREATED, // 예약 생성
+    CANCELED, // 예약 취소
+    STATUS_CHANGED // 수락, 거절 등 상태 변경
+}
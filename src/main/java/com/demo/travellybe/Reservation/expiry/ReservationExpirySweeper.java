@@ -0,0 +1,121 @@
+package com.demo.travellybe.Reservation.expiry;
+
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.repository.ReservationKey;
+import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜가 지난 대기(PENDING) 예약을 만료(EXPIRED)로 바꾼다.
+ * (status, date) 인덱스를 따라 청크 단위로 조회하고 청크마다 별도 트랜잭션에서 한 번의 UPDATE로 변경하여 긴 잠금을 피한다.
+ * 같은 트랜잭션에서 상품별 대기 예약 수도 함께 줄인다.
+ * 여러 서버 중 하나만 실행하도록 Redis 잠금을 사용한다.
+ */
+@Slf4j
+@Component
+public class ReservationExpirySweeper {
+
+    private static final String LOCK_KEY = "reservation:expiry:lock";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 청크 조회 시작 위치 (예약 날짜는 이보다 이전일 수 없음)
+    private static final LocalDate START_DATE = LocalDate.EPOCH;
+
+    private final ReservationRepository reservationRepository;
+    private final PendingReservationCounters pendingReservationCounters;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary expiredPerRun;
+    private final int chunkSize;
+    private final Duration lockTimeout;
+
+    public ReservationExpirySweeper(ReservationRepository reservationRepository,
+                                    PendingReservationCounters pendingReservationCounters,
+                                    RedisTemplate<String, String> redisTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${reservation.expiry.chunk-size:500}") int chunkSize,
+                                    @Value("${reservation.expiry.lock-timeout-minutes:10}") long lockTimeoutMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.pendingReservationCounters = pendingReservationCounters;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.expiredPerRun = DistributionSummary.builder("reservation.expiry.processed")
+                .description("한 번의 실행에서 만료 처리한 예약 수")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+        this.lockTimeout = Duration.ofMinutes(lockTimeoutMinutes);
+    }
+
+    @Scheduled(cron = "${reservation.expiry.cron:0 5 * * * *}")
+    public void sweep() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTimeout);
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            int expired = expirePastPendingReservations(LocalDate.now());
+            expiredPerRun.record(expired);
+            if (expired > 0) log.info("지난 대기 예약 {}건 만료 처리", expired);
+        } catch (RuntimeException e) {
+            log.warn("예약 만료 처리 실패", e);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+        }
+    }
+
+    private int expirePastPendingReservations(LocalDate today) {
+        int expired = 0;
+        LocalDate lastDate = START_DATE;
+        Long lastId = 0L;
+        while (true) {
+            List<ReservationKey> keys = reservationRepository.findKeysByStatusBefore(
+                    ReservationStatus.PENDING, today, lastDate, lastId, PageRequest.of(0, chunkSize));
+            if (keys.isEmpty()) return expired;
+
+            List<Long> ids = keys.stream().map(ReservationKey::getId).toList();
+            Integer updated = transactionTemplate.execute(status -> expire(ids));
+            expired += updated != null ? updated : 0;
+
+            if (keys.size() < chunkSize) return expired;
+            ReservationKey last = keys.getLast();
+            lastDate = last.getDate();
+            lastId = last.getId();
+        }
+    }
+
+    private int expire(List<Long> ids) {
+        // 조회 이후 상태가 바뀐 예약은 제외하고, 변경할 예약을 잠가 대기 예약 수를 정확히 줄임
+        List<Reservation> pending = reservationRepository.findByIdInAndStatusForUpdate(ids, ReservationStatus.PENDING);
+        if (pending.isEmpty()) return 0;
+
+        int updated = reservationRepository.updateStatusByIds(pending.stream().map(Reservation::getId).toList(),
+                ReservationStatus.PENDING, ReservationStatus.EXPIRED, LocalDateTime.now());
+        Map<Long, Integer> productDeltas = pending.stream()
+                .collect(Collectors.groupingBy(reservation -> reservation.getProduct().getId(),
+                        Collectors.summingInt(reservation -> -1)));
+        pendingReservationCounters.addAll(productDeltas);
+        return updated;
+    }
+}
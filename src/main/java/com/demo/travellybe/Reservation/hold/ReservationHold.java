@@ -0,0 +1,39 @@
+package com.demo.travellybe.Reservation.hold;
+
+import com.demo.travellybe.Reservation.dto.ReservationCreateDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 예약 확정 전 잠시 확보해 둔 수량(홀드). Redis에 JSON으로 저장한다.
+ */
+@Getter
+@NoArgsConstructor
+public class ReservationHold {
+
+    private String id;
+    private Long memberId;
+    private Long productId;
+    private ReservationCreateDto request;
+    private int totalQuantity;
+    // 만료 시각 (epoch millis)
+    private long expiresAt;
+
+    public static ReservationHold of(Long memberId, Long productId, ReservationCreateDto request,
+                                     int totalQuantity, long expiresAt) {
+        ReservationHold hold = new ReservationHold();
+        hold.id = UUID.randomUUID().toString();
+        hold.memberId = memberId;
+        hold.productId = productId;
+        hold.request = request;
+        hold.totalQuantity = totalQuantity;
+        hold.expiresAt = expiresAt;
+        return hold;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,373 @@
+package com.demo.travellybe.Reservation.hold;
+
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import com.demo.travellybe.product.domain.ProductCapacity;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 예약 홀드 저장과 만료 처리.
+ * 홀드는 Redis에 저장하고(만료 시각을 점수로 한 정렬 집합 포함), 만료는 서버 메모리의 해시 타이밍 휠로 처리한다.
+ * 서버가 재시작되면 정렬 집합으로 타이밍 휠을 다시 채우고, 다른 서버가 내려가 처리되지 않은 홀드는 주기적으로 만료 시각 범위만 조회해 정리한다.
+ * 홀드는 수량을 확보한 트랜잭션이 커밋된 뒤에 저장하므로 커밋 직후 저장 전에 서버가 내려가면 수량이 반환되지 않는다(짧은 구간).
+ * 확정, 취소는 홀드가 남아 있을 때만 원자적으로 가져가고, 만료는 홀드를 반환 중(:releasing) 키로 옮긴 뒤 수량을 반환하고 나서 지우므로
+ * 확정과 만료, 여러 서버의 만료 처리 중 하나만 성공하고 반환 도중 서버가 내려가도 주기적 정리에서 다시 반환한다.
+ * 회원별로 진행 중인 홀드 수를 제한한다.
+ */
+@Slf4j
+@Component
+public class ReservationHoldManager {
+
+    private static final String HOLD_KEY_PREFIX = "reservation:hold:";
+    private static final String HOLDS_KEY = "reservation:holds";
+    private static final String RELEASING_SUFFIX = ":releasing";
+    private static final String MEMBER_HOLDS_KEY_PREFIX = "reservation:holds:member:";
+    // 만료 처리 실패 시 다시 시도할 때까지의 시간 (반환 중 표시의 임대 시간)
+    private static final long RETRY_DELAY_MILLIS = 60_000;
+
+    /*
+     * 홀드를 반환 중 키로 옮기고 정렬 집합 점수를 임대 만료 시각으로 바꾼 뒤 홀드를 반환한다.
+     * 홀드가 이미 반환 중이면 임대 시간이 지난 경우(반환하던 서버가 내려간 경우)에만 가져온다.
+     * KEYS: 홀드, 반환 중 홀드, 정렬 집합 / ARGV: 홀드 ID, 현재 시각, 임대 만료 시각, 보관 시간(ms)
+     */
+    private static final RedisScript<String> CLAIM_RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "local hold = redis.call('get', KEYS[1]) "
+                    + "if hold then "
+                    + "  redis.call('set', KEYS[2], hold, 'px', ARGV[4]) "
+                    + "  redis.call('del', KEYS[1]) "
+                    + "else "
+                    + "  hold = redis.call('get', KEYS[2]) "
+                    + "  if not hold then redis.call('zrem', KEYS[3], ARGV[1]) return false end "
+                    + "  local lease = redis.call('zscore', KEYS[3], ARGV[1]) "
+                    + "  if lease and tonumber(lease) > tonumber(ARGV[2]) then return false end "
+                    + "end "
+                    + "redis.call('zadd', KEYS[3], ARGV[3], ARGV[1]) "
+                    + "return hold",
+            String.class);
+
+    /*
+     * 홀드가 남아 있을 때만 지우고 정렬 집합과 회원별 홀드에서 뺀 뒤 홀드를 반환한다.
+     * 만료 처리 중(반환 중 키로 옮겨진 뒤)이면 아무것도 건드리지 않아 반환 중 표시가 남는다.
+     * KEYS: 홀드, 정렬 집합 / ARGV: 홀드 ID
+     */
+    private static final RedisScript<String> TAKE_SCRIPT = new DefaultRedisScript<>(
+            "local hold = redis.call('get', KEYS[1]) "
+                    + "if not hold then return false end "
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('zrem', KEYS[2], ARGV[1]) "
+                    // 값 직렬화로 JSON 문자열이 한 번 더 감싸져 있으면 두 번 해석
+                    + "local ok, data = pcall(cjson.decode, hold) "
+                    + "if ok and type(data) == 'string' then ok, data = pcall(cjson.decode, data) end "
+                    + "if ok and type(data) == 'table' and type(data['memberId']) == 'number' then "
+                    + "  redis.call('zrem', '" + MEMBER_HOLDS_KEY_PREFIX + "' .. string.format('%d', data['memberId']), ARGV[1]) "
+                    + "end "
+                    + "return hold",
+            String.class);
+
+    /*
+     * 회원의 만료되지 않은 홀드가 제한보다 적을 때만 홀드를 추가한다.
+     * KEYS: 회원별 홀드 / ARGV: 홀드 ID, 현재 시각, 만료 시각, 최대 홀드 수, 보관 시간(ms)
+     */
+    private static final RedisScript<Long> ADD_MEMBER_HOLD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', ARGV[2]) "
+                    + "if redis.call('zcard', KEYS[1]) >= tonumber(ARGV[4]) then return 0 end "
+                    + "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]) "
+                    + "redis.call('pexpire', KEYS[1], ARGV[5]) "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductCapacityRepository productCapacityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration holdDuration;
+    private final long recoveryGraceMillis;
+    private final int maxActiveHoldsPerMember;
+
+    private final Timer wheel = new HashedWheelTimer(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-hold-wheel");
+        thread.setDaemon(true);
+        return thread;
+    }, 100, TimeUnit.MILLISECONDS, 512);
+
+    // 타이밍 휠 스레드가 DB 작업으로 밀리지 않도록 만료 처리는 별도 스레드에서 실행
+    private final ExecutorService expireExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-hold-expire");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationHoldManager(RedisTemplate<String, String> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  ProductCapacityRepository productCapacityRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${reservation.hold.duration-minutes:10}") long holdMinutes,
+                                  @Value("${reservation.hold.recovery-grace-ms:30000}") long recoveryGraceMillis,
+                                  @Value("${reservation.hold.max-active-per-member:5}") int maxActiveHoldsPerMember) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.productCapacityRepository = productCapacityRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.holdDuration = Duration.ofMinutes(holdMinutes);
+        this.recoveryGraceMillis = recoveryGraceMillis;
+        this.maxActiveHoldsPerMember = maxActiveHoldsPerMember;
+    }
+
+    public long nextExpiresAt() {
+        return System.currentTimeMillis() + holdDuration.toMillis();
+    }
+
+    /**
+     * 수량을 확보한 트랜잭션 안에서 호출한다.
+     * 홀드는 커밋된 뒤에 Redis에 저장하므로, 롤백되거나 커밋 전에 서버가 내려가도 확보하지 않은 수량을 반환하지 않는다.
+     * 회원의 진행 중인 홀드가 제한에 이르렀으면 RESERVATION_HOLD_LIMIT_EXCEEDED 예외가 발생해 확보한 수량도 롤백된다.
+     */
+    public void register(ReservationHold hold) {
+        Long added = redisTemplate.execute(ADD_MEMBER_HOLD_SCRIPT, List.of(memberHoldsKey(hold.getMemberId())),
+                hold.getId(), System.currentTimeMillis(), hold.getExpiresAt(), maxActiveHoldsPerMember,
+                retention().toMillis());
+        if (added == null || added == 0L) throw new CustomException(ErrorCode.RESERVATION_HOLD_LIMIT_EXCEEDED);
+
+        afterCompletion(committed -> {
+            if (committed) persist(hold);
+            else removeMemberHold(hold);
+        });
+    }
+
+    /**
+     * 홀드를 가져간다(확정, 취소). 트랜잭션이 롤백되면 홀드를 되돌려 만료 시각에 정리되도록 한다.
+     */
+    public Optional<ReservationHold> claim(String holdId) {
+        Optional<ReservationHold> hold = take(holdId);
+        hold.ifPresent(claimed -> afterCompletion(committed -> {
+            if (!committed) restore(claimed, 0);
+        }));
+        return hold;
+    }
+
+    // 서버 시작 시 Redis에 남은 홀드를 타이밍 휠에 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> holds = redisTemplate.opsForZSet().rangeWithScores(HOLDS_KEY, 0, -1);
+            if (holds == null) return;
+            for (ZSetOperations.TypedTuple<String> hold : holds) {
+                if (hold.getValue() != null && hold.getScore() != null)
+                    schedule(hold.getValue(), hold.getScore().longValue());
+            }
+            log.info("예약 홀드 {}건 복구", holds.size());
+        } catch (RuntimeException e) {
+            log.warn("예약 홀드 복구 실패", e);
+        }
+    }
+
+    // 다른 서버가 등록하거나 반환하던 중 내려가 처리되지 않은 홀드 정리 (만료 시각, 임대 만료 시각이 지난 범위만 조회)
+    @Scheduled(fixedDelayString = "${reservation.hold.recovery-interval-ms:60000}")
+    public void expireOverdue() {
+        try {
+            Set<String> overdue = redisTemplate.opsForZSet()
+                    .rangeByScore(HOLDS_KEY, 0, System.currentTimeMillis() - recoveryGraceMillis);
+            if (overdue != null) overdue.forEach(holdId -> expireExecutor.execute(() -> expire(holdId)));
+        } catch (RuntimeException e) {
+            log.warn("만료된 예약 홀드 조회 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 남은 홀드는 Redis에 있으므로 다음 시작 시 복구
+        wheel.stop();
+        expireExecutor.shutdown();
+    }
+
+    private void schedule(String holdId, long expiresAt) {
+        long delay = Math.max(expiresAt - System.currentTimeMillis(), 0);
+        wheel.newTimeout(timeout -> expireExecutor.execute(() -> expire(holdId)), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void expire(String holdId) {
+        long leaseUntil = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+        Optional<ReservationHold> hold;
+        try {
+            hold = claimRelease(holdId, leaseUntil);
+        } catch (RuntimeException e) {
+            log.warn("예약 홀드 만료 실패: {}", holdId, e);
+            schedule(holdId, leaseUntil);
+            return;
+        }
+        // 이미 확정, 취소되었거나 다른 서버에서 만료 처리 중
+        if (hold.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> release(hold.get()));
+        } catch (RuntimeException e) {
+            // 반환 중 표시가 남아 있으므로 임대 시간이 지나면 다시 반환
+            log.warn("예약 홀드 수량 반환 실패: {}", holdId, e);
+            schedule(holdId, leaseUntil);
+            return;
+        }
+        finishRelease(hold.get());
+    }
+
+    private void release(ReservationHold hold) {
+        productCapacityRepository.release(hold.getProductId(), hold.getRequest().getDate(),
+                ProductCapacity.slotOf(hold.getRequest().getStartTime()), hold.getTotalQuantity());
+    }
+
+    private void restore(ReservationHold hold, long minDelayMillis) {
+        try {
+            save(hold);
+            schedule(hold.getId(), Math.max(hold.getExpiresAt(), System.currentTimeMillis() + minDelayMillis));
+        } catch (RuntimeException e) {
+            log.error("예약 홀드 복원 실패, 수량이 반환되지 않음: {}", hold.getId(), e);
+        }
+    }
+
+    // 커밋된 홀드를 저장하고 만료를 예약한다. 저장하지 못하면 만료될 수 없으므로 확보한 수량을 바로 반환한다.
+    private void persist(ReservationHold hold) {
+        try {
+            save(hold);
+        } catch (RuntimeException e) {
+            log.error("예약 홀드 저장 실패, 수량 반환: {}", hold.getId(), e);
+            // 완료된 트랜잭션의 자원이 아직 묶여 있으므로 별도 스레드의 새 트랜잭션에서 반환
+            expireExecutor.execute(() -> releaseUnsaved(hold));
+            return;
+        }
+        schedule(hold.getId(), hold.getExpiresAt());
+    }
+
+    private void releaseUnsaved(ReservationHold hold) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> release(hold));
+        } catch (RuntimeException e) {
+            log.error("저장하지 못한 예약 홀드의 수량 반환 실패, 확인 필요: {}", hold.getId(), e);
+            return;
+        }
+        delete(hold);
+    }
+
+    private void save(ReservationHold hold) {
+        try {
+            redisTemplate.opsForValue().set(HOLD_KEY_PREFIX + hold.getId(), objectMapper.writeValueAsString(hold),
+                    retention());
+            redisTemplate.opsForZSet().add(HOLDS_KEY, hold.getId(), hold.getExpiresAt());
+            redisTemplate.opsForZSet().add(memberHoldsKey(hold.getMemberId()), hold.getId(), hold.getExpiresAt());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 홀드를 저장할 수 없습니다: " + hold.getId(), e);
+        }
+    }
+
+    private Optional<ReservationHold> take(String holdId) {
+        String json = redisTemplate.execute(TAKE_SCRIPT, List.of(HOLD_KEY_PREFIX + holdId, HOLDS_KEY), holdId);
+        return parse(holdId, json);
+    }
+
+    // 홀드를 반환 중으로 옮겨 가져옴 (반환을 마칠 때까지 정렬 집합에 임대 만료 시각으로 남음)
+    private Optional<ReservationHold> claimRelease(String holdId, long leaseUntil) {
+        String releasingKey = HOLD_KEY_PREFIX + holdId + RELEASING_SUFFIX;
+        String json = redisTemplate.execute(CLAIM_RELEASE_SCRIPT,
+                List.of(HOLD_KEY_PREFIX + holdId, releasingKey, HOLDS_KEY),
+                holdId, System.currentTimeMillis(), leaseUntil, retention().toMillis());
+        if (json == null) return Optional.empty();
+
+        Optional<ReservationHold> hold = parse(holdId, json);
+        if (hold.isEmpty()) {
+            // 반환할 수 없는 홀드를 주기적 정리에서 계속 가져오지 않도록 지움
+            redisTemplate.delete(releasingKey);
+            redisTemplate.opsForZSet().remove(HOLDS_KEY, holdId);
+        }
+        return hold;
+    }
+
+    private void finishRelease(ReservationHold hold) {
+        try {
+            redisTemplate.delete(HOLD_KEY_PREFIX + hold.getId() + RELEASING_SUFFIX);
+            redisTemplate.opsForZSet().remove(HOLDS_KEY, hold.getId());
+            redisTemplate.opsForZSet().remove(memberHoldsKey(hold.getMemberId()), hold.getId());
+        } catch (RuntimeException e) {
+            // 임대 시간이 지나면 다른 서버가 수량을 한 번 더 반환하므로 확인 필요
+            log.error("반환한 예약 홀드 정리 실패: {}", hold.getId(), e);
+        }
+    }
+
+    private Optional<ReservationHold> parse(String holdId, String json) {
+        if (json == null) return Optional.empty();
+        try {
+            return Optional.of(objectMapper.readValue(json, ReservationHold.class));
+        } catch (JsonProcessingException e) {
+            log.error("잘못된 예약 홀드: {}", holdId, e);
+            return Optional.empty();
+        }
+    }
+
+    // 저장 도중 실패해 일부만 남은 홀드 삭제
+    private void delete(ReservationHold hold) {
+        try {
+            redisTemplate.delete(HOLD_KEY_PREFIX + hold.getId());
+            redisTemplate.opsForZSet().remove(HOLDS_KEY, hold.getId());
+            redisTemplate.opsForZSet().remove(memberHoldsKey(hold.getMemberId()), hold.getId());
+        } catch (RuntimeException e) {
+            // 남은 홀드가 만료되면 이미 반환한 수량을 한 번 더 반환하게 되므로 확인 필요
+            log.error("반환한 예약 홀드 삭제 실패: {}", hold.getId(), e);
+        }
+    }
+
+    // 롤백된 홀드는 저장되지 않았으므로 회원별 홀드 수에서만 뺌
+    private void removeMemberHold(ReservationHold hold) {
+        try {
+            redisTemplate.opsForZSet().remove(memberHoldsKey(hold.getMemberId()), hold.getId());
+        } catch (RuntimeException e) {
+            // 만료 시각이 지나면 회원별 홀드 수에서 빠짐
+            log.warn("롤백된 예약 홀드의 회원별 홀드 삭제 실패: {}", hold.getId(), e);
+        }
+    }
+
+    // 만료 처리가 늦어져도 수량을 반환할 수 있도록 홀드 기간보다 길게 보관
+    private Duration retention() {
+        return holdDuration.plusDays(1);
+    }
+
+    private static String memberHoldsKey(Long memberId) {
+        return MEMBER_HOLDS_KEY_PREFIX + memberId;
+    }
+
+    private void afterCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.demo.travellybe.Reservation.idempotency;
+
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 재시도된 예약 요청을 한 번만 처리한다.
+ * 처리가 끝난 요청은 요청 지문(fingerprint)과 응답을 Redis에 저장해 두고, 같은 키로 다시 오면 DB를 거치지 않고 저장된 응답을 돌려준다.
+ * 같은 키의 요청이 동시에 들어오면 짧은 Redis 잠금으로 하나만 처리하고 나머지는 RESERVATION_REQUEST_IN_PROGRESS로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationIdempotency {
+
+    private static final String KEY_PREFIX = "idempotency:reservation:";
+    private static final String LOCK_SUFFIX = ":lock";
+    // 잠금을 건 요청만 잠금을 해제하도록 값을 비교한 뒤 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${reservation.idempotency.lock-seconds:30}")
+    private long lockSeconds;
+
+    /**
+     * idempotencyKey가 없으면 action을 그대로 실행한다.
+     * action은 트랜잭션 밖에서 호출되어야 커밋된 결과만 저장된다.
+     *
+     * @param scope   요청 종류와 대상 (예: "create:1"), 같은 키를 다른 요청에 재사용했는지 확인하는 데 사용
+     * @param request 요청 본문, 없으면 null
+     */
+    public <T> T execute(Long memberId, String idempotencyKey, String scope, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return action.get();
+
+        String key = KEY_PREFIX + memberId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(scope, request);
+
+        Optional<StoredResponse<T>> stored = findStoredResponse(key, fingerprint, responseType);
+        if (stored.isPresent()) return stored.get().response();
+
+        String lockKey = key + LOCK_SUFFIX;
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, Duration.ofSeconds(lockSeconds));
+        if (!Boolean.TRUE.equals(locked)) throw new CustomException(ErrorCode.RESERVATION_REQUEST_IN_PROGRESS);
+
+        try {
+            // 잠금을 얻는 사이에 앞선 요청이 끝났을 수 있으므로 다시 확인
+            stored = findStoredResponse(key, fingerprint, responseType);
+            if (stored.isPresent()) return stored.get().response();
+
+            T response = action.get();
+            store(key, fingerprint, response);
+            return response;
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), lockToken);
+        }
+    }
+
+    // 응답이 없는 요청(예약 취소)도 처리 완료로 구분하기 위해 응답을 감싸서 반환
+    private record StoredResponse<T>(T response) {
+    }
+
+    private <T> Optional<StoredResponse<T>> findStoredResponse(String key, String fingerprint, Class<T> responseType) {
+        String stored = redisTemplate.opsForValue().get(key);
+        if (stored == null) return Optional.empty();
+        try {
+            JsonNode node = objectMapper.readTree(stored);
+            if (!fingerprint.equals(node.path("fingerprint").asText()))
+                throw new CustomException(ErrorCode.RESERVATION_IDEMPOTENCY_KEY_REUSED);
+            JsonNode response = node.get("response");
+            return Optional.of(new StoredResponse<>(response == null || response.isNull()
+                    ? null : objectMapper.treeToValue(response, responseType)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 예약 응답을 읽을 수 없습니다: " + key, e);
+        }
+    }
+
+    private void store(String key, String fingerprint, Object response) {
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.put("fingerprint", fingerprint);
+            node.set("response", objectMapper.valueToTree(response));
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(node), Duration.ofHours(ttlHours));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 예약은 이미 커밋되었으므로 실패로 응답하지 않음 (이후 재시도는 새 요청으로 처리됨)
+            log.warn("예약 응답 저장 실패: {}", key, e);
+        }
+    }
+
+    private String fingerprint(String scope, Object request) {
+        try {
+            String source = scope + ":" + objectMapper.writeValueAsString(request);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 지문을 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.demo.travellybe.Reservation.repository;
+
+// 상품(판매자)별 대기 예약 수
+public interface OwnerCount {
+    Long getOwnerId();
+    Long getCount();
+}
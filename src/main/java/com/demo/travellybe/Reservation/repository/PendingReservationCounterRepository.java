@@ -0,0 +1,47 @@
+package com.demo.travellybe.Reservation.repository;
+
+import com.demo.travellybe.Reservation.domain.PendingReservationCounter;
+import com.demo.travellybe.Reservation.domain.PendingReservationCounterType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PendingReservationCounterRepository extends JpaRepository<PendingReservationCounter, Long> {
+
+    // 행이 없으면 만들고, 있으면 원자적으로 더함
+    @Modifying
+    @Query(value = "INSERT INTO pending_reservation_counter (owner_type, owner_id, stripe, pending) " +
+            "VALUES (:ownerType, :ownerId, :stripe, :delta) " +
+            "ON DUPLICATE KEY UPDATE pending = pending + :delta", nativeQuery = true)
+    int add(@Param("ownerType") String ownerType,
+            @Param("ownerId") Long ownerId,
+            @Param("stripe") int stripe,
+            @Param("delta") int delta);
+
+    @Query("SELECT COALESCE(SUM(c.pending), 0) FROM PendingReservationCounter c " +
+            "WHERE c.ownerType = :ownerType AND c.ownerId = :ownerId")
+    long sumPending(@Param("ownerType") PendingReservationCounterType ownerType,
+                    @Param("ownerId") Long ownerId);
+
+    @Query("SELECT c.ownerId AS ownerId, SUM(c.pending) AS count FROM PendingReservationCounter c " +
+            "WHERE c.ownerType = :ownerType AND c.ownerId IN :ownerIds GROUP BY c.ownerId")
+    List<OwnerCount> sumPendingByOwnerIds(@Param("ownerType") PendingReservationCounterType ownerType,
+                                          @Param("ownerIds") List<Long> ownerIds);
+
+    // 보정하는 동안 카운터가 바뀌지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PendingReservationCounter c WHERE c.ownerType = :ownerType AND c.ownerId IN :ownerIds " +
+            "ORDER BY c.ownerId, c.stripe")
+    List<PendingReservationCounter> findForUpdate(@Param("ownerType") PendingReservationCounterType ownerType,
+                                                  @Param("ownerIds") List<Long> ownerIds);
+
+    @Modifying
+    @Query("DELETE FROM PendingReservationCounter c WHERE c.ownerType = :ownerType AND c.ownerId = :ownerId")
+    int deleteByOwner(@Param("ownerType") PendingReservationCounterType ownerType,
+                      @Param("ownerId") Long ownerId);
+}
@@ -0,0 +1,9 @@
+package com.demo.travellybe.Reservation.repository;
+
+import java.time.LocalDate;
+
+// 키셋 페이지네이션용 (date, id)
+public interface ReservationKey {
+    Long getId();
+    LocalDate getDate();
+}
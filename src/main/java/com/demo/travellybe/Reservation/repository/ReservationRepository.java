@@ -1,21 +1,60 @@
 package com.demo.travellybe.Reservation.repository;
 
 import com.demo.travellybe.Reservation.domain.Reservation;
-import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
     List<Reservation> findByBuyerId(Long memberId);
     List<Reservation> findByProductId(Long productId);
 
-    // product id로 예약 내역을 조회, 최신순으로 정렬
-    List<Reservation> findByProductIdOrderByCreatedDateDesc(Long productId);
+    // 상태를 바꾸기 전 이전 상태를 정확히 알기 위해 잠금 (대기 예약 수 계산)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
 
-    // 유저가 예약한 상품 중 체험한 상품
-    @Query("SELECT r.product FROM Reservation r WHERE r.id = :reservationId AND r.status = 'ACCEPTED'")
-    Product findAcceptedProductByReservationId(@Param("reservationId") Long reservationId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = :status")
+    List<Reservation> findByIdInAndStatusForUpdate(@Param("ids") List<Long> ids,
+                                                   @Param("status") ReservationStatus status);
+
+    @Query("SELECT r.product.id AS ownerId, COUNT(r) AS count FROM Reservation r " +
+            "WHERE r.status = :status AND r.product.id IN :productIds GROUP BY r.product.id")
+    List<OwnerCount> countByProductIdsAndStatus(@Param("productIds") List<Long> productIds,
+                                                @Param("status") ReservationStatus status);
+
+    @Query("SELECT p.member.id AS ownerId, COUNT(r) AS count FROM Reservation r JOIN r.product p " +
+            "WHERE r.status = :status AND p.member.id IN :sellerIds GROUP BY p.member.id")
+    List<OwnerCount> countBySellerIdsAndStatus(@Param("sellerIds") List<Long> sellerIds,
+                                               @Param("status") ReservationStatus status);
+
+    // (status, date) 인덱스 순서로 (lastDate, lastId) 다음 예약부터 조회 (지난 청크를 다시 읽지 않음)
+    @Query("SELECT r.id AS id, r.date AS date FROM Reservation r " +
+            "WHERE r.status = :status AND r.date < :before AND r.date >= :lastDate " +
+            "AND (r.date > :lastDate OR r.id > :lastId) " +
+            "ORDER BY r.date, r.id")
+    List<ReservationKey> findKeysByStatusBefore(@Param("status") ReservationStatus status,
+                                                @Param("before") LocalDate before,
+                                                @Param("lastDate") LocalDate lastDate,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
+
+    // 조회 이후 상태가 바뀐 예약은 제외하고 변경
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :to, r.modifiedDate = :now WHERE r.id IN :ids AND r.status = :from")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("from") ReservationStatus from,
+                          @Param("to") ReservationStatus to,
+                          @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,29 @@
+package com.demo.travellybe.Reservation.repository;
+
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationTicket;
+import com.demo.travellybe.Reservation.dto.PendingReservationsPerProductDto;
+import com.demo.travellybe.Reservation.dto.ReservationSearchRequestDto;
+import com.demo.travellybe.product.domain.Product;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReservationRepositoryCustom {
+
+    // 판매자의 상품별 예약 수, 대기 중인 예약 수, 가장 최근 예약 정보 (상품 이미지는 제외)
+    List<PendingReservationsPerProductDto> findReservationSummariesBySellerId(Long sellerId);
+
+    // 구매자가 체험한(수락된 예약이 있는) 상품을 상품 ID 역순으로 중복 없이 조회, cursor(마지막 상품 ID)가 있으면 그 다음부터
+    Slice<Product> findAcceptedProductsByBuyerId(Long buyerId, Long cursor, int size);
+
+    // 구매자의 예약을 예약 날짜 최신순으로 조회 ((member_id, date) 인덱스)
+    Slice<Reservation> findByBuyerIdByCursor(Long buyerId, ReservationSearchRequestDto requestDto);
+
+    // 상품의 예약을 생성 최신순(예약 ID 역순)으로 조회 ((product_id, status) 인덱스)
+    Slice<Reservation> findByProductIdByCursor(Long productId, ReservationSearchRequestDto requestDto);
+
+    // 예약 ID -> 예약 티켓 (티켓 포함), 예약 목록의 티켓을 한 번의 쿼리로 조회
+    Map<Long, List<ReservationTicket>> findTicketsByReservationIds(List<Long> reservationIds);
+}
@@ -0,0 +1,186 @@
+package com.demo.travellybe.Reservation.repository;
+
+import com.demo.travellybe.Reservation.domain.QReservation;
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.domain.ReservationTicket;
+import com.demo.travellybe.Reservation.dto.PendingReservationsPerProductDto;
+import com.demo.travellybe.Reservation.dto.ReservationCursor;
+import com.demo.travellybe.Reservation.dto.ReservationSearchRequestDto;
+import com.demo.travellybe.product.domain.Product;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.demo.travellybe.Reservation.domain.QReservation.reservation;
+import static com.demo.travellybe.Reservation.domain.QReservationTicket.reservationTicket;
+import static com.demo.travellybe.member.domain.QMember.member;
+import static com.demo.travellybe.product.domain.QProduct.product;
+import static com.demo.travellybe.product.domain.QTicket.ticket;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PendingReservationsPerProductDto> findReservationSummariesBySellerId(Long sellerId) {
+        // 상품별 가장 최근 예약 (ID가 가장 큰 예약)
+        QReservation latest = new QReservation("latest");
+        QReservation sub = new QReservation("sub");
+
+        NumberExpression<Long> reservationCount = reservation.id.count();
+        NumberExpression<Long> pendingCount = new CaseBuilder()
+                .when(reservation.status.eq(ReservationStatus.PENDING)).then(1L)
+                .otherwise(0L)
+                .sum();
+
+        List<Tuple> rows = queryFactory
+                .select(product.id, product.name, reservationCount, pendingCount,
+                        latest.totalPrice, latest.date, latest.createdDate)
+                .from(product)
+                .leftJoin(reservation).on(reservation.product.eq(product))
+                .leftJoin(latest).on(latest.id.eq(
+                        JPAExpressions.select(sub.id.max()).from(sub).where(sub.product.eq(product))))
+                .where(product.member.id.eq(sellerId))
+                .groupBy(product.id, product.name, latest.id, latest.totalPrice, latest.date, latest.createdDate)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> {
+                    long pending = nullToZero(row.get(pendingCount));
+                    // 대기 중인 예약이 없으면 가장 최근 예약 정보는 비움
+                    return PendingReservationsPerProductDto.builder()
+                            .productId(row.get(product.id))
+                            .productName(row.get(product.name))
+                            .price(pending != 0 ? nullToZero(row.get(latest.totalPrice)) : 0)
+                            .date(pending != 0 ? row.get(latest.date) : null)
+                            .createdDate(pending != 0 ? row.get(latest.createdDate) : null)
+                            .reservationCount((int) nullToZero(row.get(reservationCount)))
+                            .pendingReservationCount((int) pending)
+                            .build();
+                })
+                .toList();
+    }
+
+    @Override
+    public Slice<Product> findAcceptedProductsByBuyerId(Long buyerId, Long cursor, int size) {
+        // (member_id, status, product_id) 인덱스로 상품 ID를 찾고 상품과 조인, 다음 페이지 확인을 위해 하나 더 조회
+        List<Product> products = queryFactory
+                .selectDistinct(product)
+                .from(reservation)
+                .join(reservation.product, product)
+                .where(reservation.buyer.id.eq(buyerId),
+                        reservation.status.eq(ReservationStatus.ACCEPTED),
+                        productIdLessThan(cursor))
+                .orderBy(product.id.desc())
+                .limit(size + 1)
+                .fetch();
+        return toSlice(products, size);
+    }
+
+    @Override
+    public Slice<Reservation> findByBuyerIdByCursor(Long buyerId, ReservationSearchRequestDto requestDto) {
+        int size = requestDto.resolveSize();
+        ReservationCursor cursor = requestDto.getCursor() != null ? ReservationCursor.decode(requestDto.getCursor()) : null;
+
+        List<Reservation> reservations = queryFactory
+                .selectFrom(reservation)
+                .join(reservation.product, product).fetchJoin()
+                .join(reservation.buyer, member).fetchJoin()
+                .where(reservation.buyer.id.eq(buyerId),
+                        eqStatus(requestDto),
+                        betweenDates(requestDto),
+                        beforeDateCursor(cursor))
+                .orderBy(reservation.date.desc(), reservation.id.desc())
+                .limit(size + 1)
+                .fetch();
+        return toSlice(reservations, size);
+    }
+
+    @Override
+    public Slice<Reservation> findByProductIdByCursor(Long productId, ReservationSearchRequestDto requestDto) {
+        int size = requestDto.resolveSize();
+        ReservationCursor cursor = requestDto.getCursor() != null ? ReservationCursor.decode(requestDto.getCursor()) : null;
+
+        List<Reservation> reservations = queryFactory
+                .selectFrom(reservation)
+                .join(reservation.product, product).fetchJoin()
+                .join(reservation.buyer, member).fetchJoin()
+                .where(reservation.product.id.eq(productId),
+                        eqStatus(requestDto),
+                        betweenDates(requestDto),
+                        cursor != null ? reservation.id.lt(cursor.getReservationId()) : null)
+                .orderBy(reservation.id.desc())
+                .limit(size + 1)
+                .fetch();
+        return toSlice(reservations, size);
+    }
+
+    @Override
+    public Map<Long, List<ReservationTicket>> findTicketsByReservationIds(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) return new HashMap<>();
+        return queryFactory
+                .selectFrom(reservationTicket)
+                .join(reservationTicket.ticket, ticket).fetchJoin()
+                .where(reservationTicket.reservation.id.in(reservationIds))
+                .orderBy(reservationTicket.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(rt -> rt.getReservation().getId()));
+    }
+
+    private BooleanExpression eqStatus(ReservationSearchRequestDto requestDto) {
+        return requestDto.getStatus() != null ? reservation.status.eq(requestDto.getStatus()) : null;
+    }
+
+    private BooleanExpression betweenDates(ReservationSearchRequestDto requestDto) {
+        LocalDate startDate = requestDto.getStartDate();
+        LocalDate endDate = requestDto.getEndDate();
+        if (startDate != null && endDate != null) return reservation.date.between(startDate, endDate);
+        if (startDate != null) return reservation.date.goe(startDate);
+        if (endDate != null) return reservation.date.loe(endDate);
+        return null;
+    }
+
+    // (date, id) 역순에서 커서 다음 예약부터
+    private BooleanExpression beforeDateCursor(ReservationCursor cursor) {
+        if (cursor == null) return null;
+        return reservation.date.lt(cursor.getDate())
+                .or(reservation.date.eq(cursor.getDate()).and(reservation.id.lt(cursor.getReservationId())));
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회 (count 쿼리 없음)
+    private static <T> Slice<T> toSlice(List<T> content, int size) {
+        boolean hasNext = content.size() > size;
+        if (hasNext) content = content.subList(0, size);
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private BooleanExpression productIdLessThan(Long cursor) {
+        return cursor != null ? product.id.lt(cursor) : null;
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static int nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
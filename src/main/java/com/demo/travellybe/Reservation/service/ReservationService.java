@@ -4,13 +4,22 @@ import com.demo.travellybe.Reservation.domain.ReservationStatus;
 import com.demo.travellybe.Reservation.dto.PendingReservationsPerProductDto;
 import com.demo.travellybe.Reservation.dto.MyReservationResponseDto;
 import com.demo.travellybe.Reservation.dto.ReservationCreateDto;
+import com.demo.travellybe.Reservation.dto.ReservationHoldResponseDto;
 import com.demo.travellybe.Reservation.dto.ReservationResponseDto;
+import com.demo.travellybe.Reservation.dto.ReservationSearchRequestDto;
+import com.demo.travellybe.Reservation.dto.ReservationSliceResponseDto;
 
 import java.util.List;
 
 public interface ReservationService {
     ReservationResponseDto getReservation(Long id);
     ReservationResponseDto createReservation(Long memberId, Long productId, ReservationCreateDto reservationCreateDto);
+    /** 수량을 홀드 기간 동안 확보 (확정하지 않으면 만료 시 반환) */
+    ReservationHoldResponseDto holdReservation(Long memberId, Long productId, ReservationCreateDto reservationCreateDto);
+    /** 홀드를 예약으로 확정 */
+    ReservationResponseDto confirmHold(Long memberId, String holdId);
+    /** 홀드를 취소하고 수량 반환 */
+    void cancelHold(Long memberId, String holdId);
     void checkProductOwner(Long productId, Long memberId);
     void checkOperationDateTime(Long productId, ReservationCreateDto reservationCreateDto);
     ReservationResponseDto updateStatus(Long id, ReservationStatus status);
@@ -24,6 +33,10 @@ public interface ReservationService {
     List<ReservationResponseDto> getReservationsByBuyerId(Long memberId);
     /** 상품 ID로 상품 상세 + 예약 목록 조회 */
     MyReservationResponseDto getReservationsByProductId(Long productId);
+    /** 구매자 ID로 예약을 상태, 기간 조건으로 커서 조회 */
+    ReservationSliceResponseDto getReservationsByBuyerId(Long memberId, ReservationSearchRequestDto requestDto);
+    /** 판매자 본인 상품의 예약을 상태, 기간 조건으로 커서 조회 */
+    ReservationSliceResponseDto getReservationsByProductId(Long sellerId, Long productId, ReservationSearchRequestDto requestDto);
     /** 판매자 ID로 상품별 대기 중인 예약 개수 조회 */
     List<PendingReservationsPerProductDto> getProductsBySellerId(Long sellerId);
 }
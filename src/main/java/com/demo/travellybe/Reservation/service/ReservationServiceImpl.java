@@ -1,24 +1,36 @@
 package com.demo.travellybe.Reservation.service;
 
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
 import com.demo.travellybe.Reservation.domain.Reservation;
 import com.demo.travellybe.Reservation.domain.ReservationStatus;
 import com.demo.travellybe.Reservation.domain.ReservationTicket;
 import com.demo.travellybe.Reservation.dto.*;
+import com.demo.travellybe.Reservation.event.ReservationEvent;
+import com.demo.travellybe.Reservation.event.ReservationEventPublisher;
+import com.demo.travellybe.Reservation.event.ReservationEventType;
+import com.demo.travellybe.Reservation.hold.ReservationHold;
+import com.demo.travellybe.Reservation.hold.ReservationHoldManager;
 import com.demo.travellybe.Reservation.repository.ReservationRepository;
 import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.member.repository.MemberRepository;
-import com.demo.travellybe.product.domain.OperationDay;
+import com.demo.travellybe.point.domain.PointTransactionType;
+import com.demo.travellybe.point.service.PointService;
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.ProductCapacity;
 import com.demo.travellybe.product.domain.Ticket;
 import com.demo.travellybe.product.dto.ProductImageDto;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
 import com.demo.travellybe.product.repository.ProductRepository;
 import com.demo.travellybe.product.repository.TicketRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -32,31 +44,84 @@ public class ReservationServiceImpl implements ReservationService {
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
     private final TicketRepository ticketRepository;
+    private final ProductCapacityRepository productCapacityRepository;
+    private final PointService pointService;
+    private final ReservationHoldManager reservationHoldManager;
+    private final PendingReservationCounters pendingReservationCounters;
+    private final ReservationEventPublisher reservationEventPublisher;
 
     @Override
     public ReservationResponseDto createReservation(Long memberId, Long productId, ReservationCreateDto reservationCreateDto) {
         Product product = findProductById(productId);
         Member buyer = findMemberById(memberId);
-        Member seller = product.getMember();
-
-        List<Long> ticketIds = reservationCreateDto.getTicketDtos().stream()
-                .map(ReservationTicketDto::getTicketId)
-                .collect(Collectors.toList());
-        Map<Long, Ticket> tickets = ticketRepository.findAllById(ticketIds).stream()
-                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+        Map<Long, Ticket> tickets = findTickets(reservationCreateDto);
 
         int totalPrice = getTotalPrice(reservationCreateDto, tickets);
         int totalQuantity = getTotalQuantity(reservationCreateDto);
 
-        // 상품 수량이 부족하거나 totalQuantity가 0이면 PRODUCT_NOT_ENOUGH_TICKET_QUANTITY 에러 발생
-        if (product.getQuantity() < totalQuantity || totalQuantity == 0)
+        // totalQuantity가 0이거나 해당 날짜(운영 시간)의 남은 수량이 부족하면 PRODUCT_NOT_ENOUGH_TICKET_QUANTITY 에러 발생
+        if (totalQuantity == 0 || !reserveCapacity(productId, reservationCreateDto.getDate(),
+                reservationCreateDto.getStartTime(), totalQuantity))
+            throw new CustomException(ErrorCode.PRODUCT_NOT_ENOUGH_TICKET_QUANTITY);
+
+        return saveReservation(product, buyer, reservationCreateDto, tickets, totalPrice, totalQuantity);
+    }
+
+    @Override
+    public ReservationHoldResponseDto holdReservation(Long memberId, Long productId, ReservationCreateDto reservationCreateDto) {
+        findProductById(productId);
+        Map<Long, Ticket> tickets = findTickets(reservationCreateDto);
+        // 없는 티켓이면 TICKET_NOT_FOUND 에러 발생
+        getTotalPrice(reservationCreateDto, tickets);
+        int totalQuantity = getTotalQuantity(reservationCreateDto);
+
+        if (totalQuantity == 0 || !reserveCapacity(productId, reservationCreateDto.getDate(),
+                reservationCreateDto.getStartTime(), totalQuantity))
             throw new CustomException(ErrorCode.PRODUCT_NOT_ENOUGH_TICKET_QUANTITY);
-        // 구매자의 포인트가 부족하면 MEMBER_NOT_ENOUGH_POINT 에러 발생
-        if (buyer.getPoint() < totalPrice)
-            throw new CustomException(ErrorCode.MEMBER_NOT_ENOUGH_POINT);
+
+        ReservationHold hold = ReservationHold.of(memberId, productId, reservationCreateDto, totalQuantity,
+                reservationHoldManager.nextExpiresAt());
+        reservationHoldManager.register(hold);
+        return new ReservationHoldResponseDto(hold);
+    }
+
+    @Override
+    public ReservationResponseDto confirmHold(Long memberId, String holdId) {
+        // 홀드를 가져간 뒤 예외가 발생하면 롤백 시 홀드가 복원됨
+        ReservationHold hold = reservationHoldManager.claim(holdId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_HOLD_NOT_FOUND));
+        if (!hold.getMemberId().equals(memberId)) throw new CustomException(ErrorCode.RESERVATION_FORBIDDEN);
+        // 만료 처리 직전에 가져온 경우
+        if (hold.isExpired(System.currentTimeMillis())) throw new CustomException(ErrorCode.RESERVATION_HOLD_NOT_FOUND);
+
+        ReservationCreateDto reservationCreateDto = hold.getRequest();
+        Product product = findProductById(hold.getProductId());
+        Member buyer = findMemberById(memberId);
+        Map<Long, Ticket> tickets = findTickets(reservationCreateDto);
+        int totalPrice = getTotalPrice(reservationCreateDto, tickets);
+
+        // 수량은 홀드할 때 확보함
+        return saveReservation(product, buyer, reservationCreateDto, tickets, totalPrice, hold.getTotalQuantity());
+    }
+
+    @Override
+    public void cancelHold(Long memberId, String holdId) {
+        ReservationHold hold = reservationHoldManager.claim(holdId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_HOLD_NOT_FOUND));
+        if (!hold.getMemberId().equals(memberId)) throw new CustomException(ErrorCode.RESERVATION_FORBIDDEN);
+
+        productCapacityRepository.release(hold.getProductId(), hold.getRequest().getDate(),
+                ProductCapacity.slotOf(hold.getRequest().getStartTime()), hold.getTotalQuantity());
+    }
+
+    // 수량을 확보한 뒤 예약 저장, 포인트 결제
+    private ReservationResponseDto saveReservation(Product product, Member buyer, ReservationCreateDto reservationCreateDto,
+                                                   Map<Long, Ticket> tickets, int totalPrice, int totalQuantity) {
+        Member seller = product.getMember();
 
         Reservation reservation = Reservation.of(product, buyer, reservationCreateDto.getName(), reservationCreateDto.getPhone(),
-                reservationCreateDto.getEmail(), reservationCreateDto.getDate(), totalPrice, totalQuantity);
+                reservationCreateDto.getEmail(), reservationCreateDto.getDate(), reservationCreateDto.getStartTime(),
+                totalPrice, totalQuantity);
 
         for (ReservationTicketDto ticketDto : reservationCreateDto.getTicketDtos()) {
             Ticket ticket = tickets.get(ticketDto.getTicketId());
@@ -71,22 +136,60 @@ public class ReservationServiceImpl implements ReservationService {
         product.addReservation(reservation);
         buyer.addReservation(reservation);
 
-        // 상품 수량 차감, 구매자 포인트 차감, 판매자 포인트 증가
-        product.setQuantity(product.getQuantity() - reservation.getTotalTicketCount());
-        buyer.setPoint(buyer.getPoint() - reservation.getTotalPrice());
-        seller.setPoint(seller.getPoint() + reservation.getTotalPrice());
+        // 구매자 포인트 차감 (부족하면 MEMBER_NOT_ENOUGH_POINT 에러 발생)
+        pointService.pay(buyer.getId(), saved.getId(), PointTransactionType.RESERVATION_PAYMENT, totalPrice);
+        // 판매자 포인트는 내역만 추가하여, 같은 판매자의 예약끼리 판매자 회원 행을 두고 경합하지 않도록 함
+        pointService.record(seller.getId(), saved.getId(), PointTransactionType.RESERVATION_SALE, totalPrice);
+        pendingReservationCounters.onStatusChanged(product.getId(), seller.getId(), null, saved.getStatus());
+        reservationEventPublisher.publishAfterCommit(ReservationEvent.of(ReservationEventType.CREATED, saved, seller.getId()));
 
         return new ReservationResponseDto(saved);
     }
 
     @Override
     public ReservationResponseDto updateStatus(Long id, ReservationStatus status) {
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
-        reservation.setStatus(status);
+        Reservation reservation = findReservationForUpdate(id);
+        changeStatus(reservation, status);
+        if (status.isRefunded()) refund(reservation);
         return new ReservationResponseDto(reservation);
     }
 
+    // 잠근 예약의 현재 상태에서 바꿀 수 있는지 확인한 뒤 상태를 바꾸고 같은 트랜잭션에서 대기 예약 수 갱신, 커밋 이후 판매자에게 이벤트 발행
+    // 이미 취소, 거절, 만료된 예약을 다시 바꾸면 환불과 수량 반환이 중복되므로 RESERVATION_INVALID_STATUS 에러 발생
+    private void changeStatus(Reservation reservation, ReservationStatus status) {
+        ReservationStatus previous = reservation.getStatus();
+        if (!previous.canChangeTo(status)) throw new CustomException(ErrorCode.RESERVATION_INVALID_STATUS);
+        reservation.setStatus(status);
+        Product product = reservation.getProduct();
+        Long sellerId = product.getMember().getId();
+        pendingReservationCounters.onStatusChanged(product.getId(), sellerId, previous, status);
+
+        ReservationEventType eventType = status == ReservationStatus.CANCELED
+                ? ReservationEventType.CANCELED : ReservationEventType.STATUS_CHANGED;
+        reservationEventPublisher.publishAfterCommit(ReservationEvent.of(eventType, reservation, sellerId));
+    }
+
+    private Reservation findReservationForUpdate(Long id) {
+        return reservationRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
+    }
+
+    // 날짜(운영 시간)별 행이 없으면 만든 뒤, 확인과 증가를 하나의 UPDATE로 처리하여 동시 예약 시 초과 판매 방지
+    // 날짜별로 행이 나뉘므로 서로 다른 날짜의 예약은 같은 행을 두고 경합하지 않음
+    private boolean reserveCapacity(Long productId, LocalDate date, LocalTime startTime, int quantity) {
+        LocalTime slot = ProductCapacity.slotOf(startTime);
+        productCapacityRepository.insertIfAbsent(productId, date, slot);
+        return productCapacityRepository.reserve(productId, date, slot, quantity) > 0;
+    }
+
+    private Map<Long, Ticket> findTickets(ReservationCreateDto reservationCreateDto) {
+        List<Long> ticketIds = reservationCreateDto.getTicketDtos().stream()
+                .map(ReservationTicketDto::getTicketId)
+                .collect(Collectors.toList());
+        return ticketRepository.findAllById(ticketIds).stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+    }
+
     private int getTotalPrice(ReservationCreateDto reservationCreateDto, Map<Long, Ticket> tickets) {
         return reservationCreateDto.getTicketDtos().stream()
                 .mapToInt(ticketDto -> {
@@ -129,10 +232,16 @@ public class ReservationServiceImpl implements ReservationService {
     @Override
     public void checkOperationDateTime(Long productId, ReservationCreateDto reservationCreateDto) {
         Product product = findProductById(productId);
-        Optional<OperationDay> day = product.getOperationDays().stream()
-                .filter(operationDay -> operationDay.getDate().equals(reservationCreateDto.getDate()))
-                .findAny();
-        if (day.isEmpty()) throw new CustomException(ErrorCode.PRODUCT_NOT_AVAILABLE_OPERATION_DAY);
+        if (!product.isOperatingOn(reservationCreateDto.getDate()))
+            throw new CustomException(ErrorCode.PRODUCT_NOT_AVAILABLE_OPERATION_DAY);
+        // 운영 시간이 있는 날은 그중 하나를 지정해야 하고, 하루 종일 운영하는 날은 지정할 수 없음
+        // (하루 전체 예약과 운영 시간별 예약이 같은 날짜의 정원을 각각 따로 사용하지 않도록 함)
+        LocalTime startTime = reservationCreateDto.getStartTime();
+        boolean validTime = startTime == null
+                ? product.isAllDayOn(reservationCreateDto.getDate())
+                : !product.isAllDayOn(reservationCreateDto.getDate()) && product.getOperationHours(reservationCreateDto.getDate())
+                        .stream().anyMatch(operationHour -> operationHour.getStartTime().equals(startTime));
+        if (!validTime) throw new CustomException(ErrorCode.PRODUCT_NOT_AVAILABLE_OPERATION_HOUR);
     }
 
     @Override
@@ -153,31 +262,59 @@ public class ReservationServiceImpl implements ReservationService {
         return new MyReservationResponseDto(product, product.getReservations());
     }
 
+    @Override
+    public ReservationSliceResponseDto getReservationsByBuyerId(Long memberId, ReservationSearchRequestDto requestDto) {
+        validatePeriod(requestDto);
+        return toSliceResponse(reservationRepository.findByBuyerIdByCursor(memberId, requestDto));
+    }
+
+    @Override
+    public ReservationSliceResponseDto getReservationsByProductId(Long sellerId, Long productId, ReservationSearchRequestDto requestDto) {
+        Product product = findProductById(productId);
+        if (!product.getMember().getId().equals(sellerId)) throw new CustomException(ErrorCode.RESERVATION_FORBIDDEN);
+        validatePeriod(requestDto);
+        return toSliceResponse(reservationRepository.findByProductIdByCursor(productId, requestDto));
+    }
+
+    private void validatePeriod(ReservationSearchRequestDto requestDto) {
+        if (requestDto.getStartDate() != null && requestDto.getEndDate() != null
+                && requestDto.getStartDate().isAfter(requestDto.getEndDate()))
+            throw new CustomException(ErrorCode.RESERVATION_INVALID_PERIOD);
+    }
+
+    // 예약 티켓, 상품 티켓, 상품 이미지를 예약 수와 관계없이 각각 한 번의 쿼리로 조회
+    private ReservationSliceResponseDto toSliceResponse(Slice<Reservation> reservations) {
+        List<Long> reservationIds = reservations.getContent().stream().map(Reservation::getId).toList();
+        List<Long> productIds = reservations.getContent().stream()
+                .map(reservation -> reservation.getProduct().getId())
+                .distinct()
+                .toList();
+        Map<Long, List<ReservationTicket>> reservationTickets = reservationRepository.findTicketsByReservationIds(reservationIds);
+        Map<Long, List<Ticket>> productTickets = productRepository.findTicketsByProductIds(productIds);
+        Map<Long, List<ProductImageDto>> images = productRepository.findImagesByProductIds(productIds);
+
+        List<ReservationResponseDto> content = reservations.getContent().stream()
+                .map(reservation -> {
+                    Long productId = reservation.getProduct().getId();
+                    return new ReservationResponseDto(reservation,
+                            reservationTickets.getOrDefault(reservation.getId(), List.of()),
+                            productTickets.getOrDefault(productId, List.of()),
+                            images.getOrDefault(productId, new ArrayList<>()));
+                })
+                .toList();
+        String nextCursor = reservations.hasNext() ? ReservationCursor.encode(reservations.getContent().getLast()) : null;
+        return new ReservationSliceResponseDto(content, nextCursor);
+    }
+
     @Override
     public List<PendingReservationsPerProductDto> getProductsBySellerId(Long sellerId) {
-        List<Product> productList = productRepository.findAllByMemberId(sellerId);
-
-        List<PendingReservationsPerProductDto> responseList = new ArrayList<>();
-        for (Product product : productList) {
-            List<Reservation> reservationList = reservationRepository.findByProductIdOrderByCreatedDateDesc(product.getId());
-            long pendingReservationCount = reservationList.stream()
-                    .filter(r -> r.getStatus() == ReservationStatus.PENDING)
-                    .count();
-
-            PendingReservationsPerProductDto dto = PendingReservationsPerProductDto.builder()
-                    .productId(product.getId())
-                    .productName(product.getName())
-                    .productImages(product.getImages().stream()
-                            .map(ProductImageDto::new)
-                            .toList())
-                    .price(pendingReservationCount != 0 ? reservationList.getFirst().getTotalPrice() : 0)
-                    .date(pendingReservationCount != 0 ? reservationList.getFirst().getDate() : null)
-                    .createdDate(pendingReservationCount != 0 ? reservationList.getFirst().getCreatedDate() : null)
-                    .reservationCount(reservationList.size())
-                    .pendingReservationCount((int) pendingReservationCount)
-                    .build();
-            responseList.add(dto);
-        }
+        // 상품별 예약 집계는 한 번의 그룹 쿼리, 상품 이미지는 한 번의 쿼리로 조회
+        List<PendingReservationsPerProductDto> responseList = new ArrayList<>(
+                reservationRepository.findReservationSummariesBySellerId(sellerId));
+        Map<Long, List<ProductImageDto>> images = productRepository.findImagesByProductIds(
+                responseList.stream().map(PendingReservationsPerProductDto::getProductId).toList());
+        responseList.forEach(dto -> dto.setProductImages(images.getOrDefault(dto.getProductId(), new ArrayList<>())));
+
         // 가장 최근에 생성된 예약이 있는 상품 순서대로 정렬
         responseList.sort(Comparator.comparing(PendingReservationsPerProductDto::getCreatedDate, Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
 
@@ -186,18 +323,16 @@ public class ReservationServiceImpl implements ReservationService {
 
     @Override
     public void cancelReservation(Long id) {
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
-        reservation.setStatus(ReservationStatus.CANCELED);
+        Reservation reservation = findReservationForUpdate(id);
+        changeStatus(reservation, ReservationStatus.CANCELED);
 
         refund(reservation);
     }
 
     @Override
     public void rejectReservation(Long id, String rejectReason) {
-        Reservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.RESERVATION_NOT_FOUND));
-        reservation.setStatus(ReservationStatus.REJECTED);
+        Reservation reservation = findReservationForUpdate(id);
+        changeStatus(reservation, ReservationStatus.REJECTED);
         reservation.setRejectionReason(rejectReason);
 
         refund(reservation);
@@ -209,9 +344,11 @@ public class ReservationServiceImpl implements ReservationService {
         Product product = reservation.getProduct();
         Member seller = product.getMember();
 
-        buyer.setPoint(buyer.getPoint() + reservation.getTotalPrice());
-        seller.setPoint(seller.getPoint() - reservation.getTotalPrice());
-        product.setQuantity(product.getQuantity() + reservation.getTotalTicketCount());
+        pointService.record(buyer.getId(), reservation.getId(), PointTransactionType.RESERVATION_REFUND, reservation.getTotalPrice());
+        pointService.record(seller.getId(), reservation.getId(), PointTransactionType.RESERVATION_SALE_REFUND, -reservation.getTotalPrice());
+        // 예약한 날짜(운영 시간)의 수량 반환
+        productCapacityRepository.release(product.getId(), reservation.getDate(),
+                ProductCapacity.slotOf(reservation.getStartTime()), reservation.getTotalTicketCount());
     }
 
     public ReservationResponseDto getReservationData(String email, Long id) {
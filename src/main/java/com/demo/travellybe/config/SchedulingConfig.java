@@ -0,0 +1,31 @@
+package com.demo.travellybe.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 주기적 작업(@Scheduled)용 스케줄러 설정. 스케줄러는 Spring Boot가 spring.task.scheduling.* 설정으로 만들고,
+ * 여기서는 설정이 없을 때의 기본값만 정한다.
+ * Boot 기본 스케줄러는 스레드가 하나뿐이라 오래 걸리는 작업(색인 재생성 등)이
+ * 다른 작업(예약 홀드 정리, 만료 처리 등)을 밀어내므로 여러 스레드에서 실행한다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer schedulingDefaultsCustomizer(Environment environment) {
+        return scheduler -> {
+            if (!environment.containsProperty("spring.task.scheduling.pool.size"))
+                scheduler.setPoolSize(DEFAULT_POOL_SIZE);
+            // 종료 시 실행 중인 작업이 끝날 때까지 기다림
+            if (!environment.containsProperty("spring.task.scheduling.shutdown.await-termination")) {
+                scheduler.setWaitForTasksToCompleteOnShutdown(true);
+                scheduler.setAwaitTerminationSeconds(30);
+            }
+        };
+    }
+}
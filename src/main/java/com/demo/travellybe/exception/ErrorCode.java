@@ -29,10 +29,21 @@ public enum ErrorCode {
     PRODUCT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "P003", "해당 상품은 예약이 불가능합니다."),
     PRODUCT_NOT_ENOUGH_TICKET_QUANTITY(HttpStatus.BAD_REQUEST, "P005", "해당 상품의 최대 예약 가능 수량을 초과했습니다."),
     PRODUCT_NOT_AVAILABLE_OPERATION_DAY(HttpStatus.BAD_REQUEST, "P006", "해당 상품의 운영일이 유효하지 않습니다."),
+    PRODUCT_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "P007", "유효하지 않은 커서입니다."),
+    PRODUCT_INVALID_OPERATION_RULE(HttpStatus.BAD_REQUEST, "P008", "유효하지 않은 운영 규칙입니다."),
+    PRODUCT_NOT_AVAILABLE_OPERATION_HOUR(HttpStatus.BAD_REQUEST, "P009", "해당 상품의 운영 시간이 유효하지 않습니다."),
+    PRODUCT_INVALID_CAPACITY_PERIOD(HttpStatus.BAD_REQUEST, "P010", "조회 기간이 유효하지 않습니다."),
 
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "해당 예약을 찾을 수 없습니다."),
     RESERVATION_SELF_PRODUCT(HttpStatus.BAD_REQUEST, "R002", "본인의 상품은 예약할 수 없습니다."),
     RESERVATION_FORBIDDEN(HttpStatus.FORBIDDEN, "R003", "권한이 없습니다."),
+    RESERVATION_IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "R004", "다른 요청에 사용된 Idempotency-Key입니다."),
+    RESERVATION_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "R005", "같은 요청을 처리 중입니다."),
+    RESERVATION_HOLD_NOT_FOUND(HttpStatus.NOT_FOUND, "R006", "해당 홀드를 찾을 수 없거나 만료되었습니다."),
+    RESERVATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "R007", "유효하지 않은 커서입니다."),
+    RESERVATION_INVALID_PERIOD(HttpStatus.BAD_REQUEST, "R008", "조회 기간이 유효하지 않습니다."),
+    RESERVATION_INVALID_STATUS(HttpStatus.CONFLICT, "R009", "현재 상태에서는 변경할 수 없는 예약입니다."),
+    RESERVATION_HOLD_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "R010", "진행 중인 홀드가 너무 많습니다."),
 
     TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "T001", "해당 티켓을 찾을 수 없습니다.");
 
@@ -5,6 +5,7 @@ import com.demo.travellybe.member.dto.*;
 import com.demo.travellybe.member.service.MemberService;
 import com.demo.travellybe.product.dto.request.ProductRecentRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,9 +36,14 @@ public class MemberController {
 
     @GetMapping("/my/traveller/review")
     @Operation(summary = "구매자 후기 리스트")
-    public ResponseEntity<TravellerReviewResponseDto> travellerReview(@AuthenticationPrincipal PrincipalDetails userInfo) {
-
-        return ResponseEntity.ok().body(memberService.getTravellerReview(userInfo.getUsername()));
+    public ResponseEntity<TravellerReviewResponseDto> travellerReview(
+            @AuthenticationPrincipal PrincipalDetails userInfo,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "15")
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @Parameter(description = "체험한 상품 페이지 크기 (최대 50)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        return ResponseEntity.ok().body(memberService.getTravellerReview(userInfo.getUsername(), cursor, size));
     }
 
     @GetMapping("/my/travelly")
@@ -31,6 +31,10 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false)
     private String nickname;
 
+    // 포인트 내역(PointTransaction) 중 반영된 부분까지의 잔액, 현재 잔액은 PointService.getBalance로 조회
+    // 엔티티를 저장할 때 조회 시점의 값으로 덮어써 그 사이 반영된 포인트가 사라지지 않도록,
+    // MemberRepository.debitPoint, addPoint로만 변경
+    @Column(updatable = false)
     private int point = 100000;
 
     private String imageUrl = "https://travelly-bucket.s3.ap-northeast-2.amazonaws.com/images/profile/default-profile.png";
@@ -75,10 +79,6 @@ public class Member extends BaseTimeEntity {
         this.imageUrl = imageUrl;
     }
 
-    public void setPoint(int point) {
-        this.point = point;
-    }
-
     public void addReview(Review review) {
         reviews.add(review);
         review.setMember(this);
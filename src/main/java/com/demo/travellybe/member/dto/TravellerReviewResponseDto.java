@@ -2,10 +2,10 @@ package com.demo.travellybe.member.dto;
 
 import com.demo.travellybe.comment.dto.CommentWithProductDto;
 import com.demo.travellybe.member.domain.Member;
-import com.demo.travellybe.product.domain.Product;
 import com.demo.travellybe.product.dto.response.TravellerProductResponseDto;
 import com.demo.travellybe.review.domain.Review;
 import com.demo.travellybe.review.dto.ReviewWithProductDto;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -25,20 +25,29 @@ public class TravellerReviewResponseDto {
     // 체험한 상품 리스트
     private List<TravellerProductResponseDto> products;
 
+    @Schema(description = "체험한 상품 다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "15")
+    private Long nextCursor;
+
+    @Schema(description = "체험한 상품 다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
     // 작성한 후기
     private List<ReviewWithProductDto> reviewWithProducts;
 
     // 댓글
     private List<CommentWithProductDto> commentWithProducts;
 
-    public TravellerReviewResponseDto(Member member, List<Product> products, List<Review> reviews) {
+    public TravellerReviewResponseDto(Member member, List<TravellerProductResponseDto> products, Long nextCursor,
+                                      List<Review> reviews) {
         this.nickname = member.getNickname();
         this.email = member.getEmail();
         this.imageUrl = member.getImageUrl();
 
         if (!products.isEmpty()) {
-            this.products = products.stream().map(TravellerProductResponseDto::new).toList();
+            this.products = products;
         }
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
 
         this.reviewWithProducts = reviews.stream().map(ReviewWithProductDto::new).toList();
         this.commentWithProducts = reviews.stream().map(CommentWithProductDto::new).toList();
@@ -29,7 +29,7 @@ public class TravellyCommentResponseDto {
         this.productName = review.getProduct().getName();
         this.productPrice = review.getProduct().getMaxPrice();
         this.images = review.getProduct().getImages().stream().map(ProductImageDto::new).toList();
-        this.operationDays = review.getProduct().getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = review.getProduct().getOperationSchedule();
         this.reviewId = review.getId();
     }
 
@@ -2,6 +2,24 @@ package com.demo.travellybe.member.repository;
 
 import com.demo.travellybe.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+
+    // 이미 조회한 Member의 point는 갱신되지 않으므로 최신 값은 findPointById로 조회
+    @Query("SELECT m.point FROM Member m WHERE m.id = :memberId")
+    Optional<Integer> findPointById(@Param("memberId") Long memberId);
+
+    // 포인트가 충분할 때만 원자적으로 차감, 차감되지 않으면 0 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.point = m.point - :amount WHERE m.id = :memberId AND m.point >= :amount")
+    int debitPoint(@Param("memberId") Long memberId, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.point = m.point + :amount WHERE m.id = :memberId")
+    int addPoint(@Param("memberId") Long memberId, @Param("amount") int amount);
 }
@@ -23,5 +23,5 @@ public interface MemberService {
 
     TravellyReviewResponseDto getTravellyReview(String username);
 
-    TravellerReviewResponseDto getTravellerReview(String username);
+    TravellerReviewResponseDto getTravellerReview(String username, Long cursor, int size);
 }
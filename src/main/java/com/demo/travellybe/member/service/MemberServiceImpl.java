@@ -1,68 +1,78 @@
 package com.demo.travellybe.member.service;
 
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
 import com.demo.travellybe.Reservation.domain.Reservation;
-import com.demo.travellybe.Reservation.domain.ReservationStatus;
 import com.demo.travellybe.Reservation.repository.ReservationRepository;
 import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.member.repository.MemberRepository;
 import com.demo.travellybe.member.dto.*;
+import com.demo.travellybe.point.service.PointService;
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.product.dto.request.ProductRecentRequestDto;
 import com.demo.travellybe.product.dto.response.MyProductResponseDto;
+import com.demo.travellybe.product.dto.response.TravellerProductResponseDto;
 import com.demo.travellybe.product.repository.ProductRepository;
 import com.demo.travellybe.review.domain.Review;
 import com.demo.travellybe.review.repository.ReviewRepository;
 import com.demo.travellybe.util.S3Service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.Objects;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+    private static final int MAX_TRAVELLER_PRODUCT_PAGE_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final ReservationRepository reservationRepository;
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final S3Service s3Service;
+    private final PointService pointService;
+    private final PendingReservationCounters pendingReservationCounters;
 
     public ProfileDto getProfile(String email) {
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        return ProfileDto.of(member);
+        return toProfile(member);
     }
 
     public ProfileDto updateNickname(String email, String nickname) {
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.setNickname(nickname);
-        return ProfileDto.of(member);
+        return toProfile(member);
     }
 
     public ProfileDto updateImage(String email, MultipartFile file) {
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
         member.setImageUrl(s3Service.uploadFile(file, "profile"));
-        return ProfileDto.of(member);
+        return toProfile(member);
     }
 
     public ProfileDto updateDefaultImage(String email) {
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 ;
         member.setImageUrl("https://travelly-bucket.s3.ap-northeast-2.amazonaws.com/images/profile/default-profile.png");
-        return ProfileDto.of(member);
+        return toProfile(member);
     }
 
 
@@ -76,7 +86,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         member.setPassword(bCryptPasswordEncoder.encode(newPassword));
-        return ProfileDto.of(member);
+        return toProfile(member);
     }
 
     public TravellerResponseDto getTravellerData(List<ProductRecentRequestDto> productRecentRequestDtoList, String email) {
@@ -105,11 +115,15 @@ public class MemberServiceImpl implements MemberService {
                 .map(ProductRecentRequestDto::getProductId)
                 .toList();
 
-        List<MyProductResponseDto> recentProducts = productRepository.findByIdIn(productIds).stream()
-                .map(product -> new MyProductResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
+        List<Product> products = productRepository.findByIdIn(productIds);
+        Map<Long, Integer> reviewCounts = reviewRepository.countByProducts(products);
+        List<MyProductResponseDto> recentProducts = products.stream()
+                .map(product -> new MyProductResponseDto(product, reviewCounts.get(product.getId())))
                 .toList();
 
-        return new TravellerResponseDto(member, reviewCount, reservationCount, recentProducts);
+        TravellerResponseDto travellerResponseDto = new TravellerResponseDto(member, reviewCount, reservationCount, recentProducts);
+        travellerResponseDto.setPoint(pointService.getBalance(member.getId()));
+        return travellerResponseDto;
     }
 
     public TravellyResponseDto getTravellyData(String email) {
@@ -120,12 +134,8 @@ public class MemberServiceImpl implements MemberService {
         // 내 상품 검색
         List<Product> products = productRepository.findByMemberId(member.getId());
 
-        // 새로 들어온 예약 검색
-        int reservationCount = (int) products.stream()
-                .map(product -> reservationRepository.findByProductId(product.getId()))
-                .flatMap(List::stream)
-                .filter(reservation -> reservation.getStatus().equals(ReservationStatus.PENDING))
-                .count();
+        // 새로 들어온 예약 수
+        int reservationCount = pendingReservationCounters.getSellerCount(member.getId());
 
         // 답글을 달지 않은 리뷰 개수 = 상품에 달린 리뷰 수 - 내가 답글을 단 리뷰 수
         int productReviewCount = (int) reviewRepository.countByProductId(member.getId());
@@ -133,11 +143,14 @@ public class MemberServiceImpl implements MemberService {
         int notResponseReviewCount = Math.max(0, productReviewCount - reviewsWithMyCommentsCount);
 
         // 상품별 리뷰 개수 계산
+        Map<Long, Integer> reviewCounts = reviewRepository.countByProducts(products);
         List<MyProductResponseDto> productDtos = products.stream()
-                .map(product -> new MyProductResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
+                .map(product -> new MyProductResponseDto(product, reviewCounts.get(product.getId())))
                 .collect(Collectors.toList());
 
-        return new TravellyResponseDto(member, notResponseReviewCount, reservationCount, productDtos);
+        TravellyResponseDto travellyResponseDto = new TravellyResponseDto(member, notResponseReviewCount, reservationCount, productDtos);
+        travellyResponseDto.setPoint(pointService.getBalance(member.getId()));
+        return travellyResponseDto;
     }
 
     public TravellyReviewResponseDto getTravellyReview(String email) {
@@ -157,23 +170,35 @@ public class MemberServiceImpl implements MemberService {
         return new TravellyReviewResponseDto(member, reviews, commentReviews);
     }
 
-    public TravellerReviewResponseDto getTravellerReview(String email) {
+    public TravellerReviewResponseDto getTravellerReview(String email, Long cursor, int size) {
 
         // 유저 검색
         Member member = memberRepository.findByEmail(email).orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 유저가 체험한 상품 리스트
-        List<Reservation> reservations = reservationRepository.findByBuyerId(member.getId());
-
-        List<Product> products = reservations.stream()
-                .map(reservation -> reservationRepository.findAcceptedProductByReservationId(reservation.getId()))
-                .filter(Objects::nonNull)
+        // 유저가 체험한 상품 리스트 (한 번의 쿼리로 페이지 단위 조회, 이미지와 운영 일정은 페이지의 상품 ID로 한 번에 조회)
+        Slice<Product> products = reservationRepository.findAcceptedProductsByBuyerId(member.getId(), cursor,
+                Math.clamp(size, 1, MAX_TRAVELLER_PRODUCT_PAGE_SIZE));
+        List<Long> productIds = products.getContent().stream().map(Product::getId).toList();
+        Map<Long, List<ProductImageDto>> images = productRepository.findImagesByProductIds(productIds);
+        Map<Long, List<OperationDayDto>> schedules = productRepository.findOperationSchedulesByProductIds(productIds);
+        List<TravellerProductResponseDto> productDtos = products.getContent().stream()
+                .map(product -> new TravellerProductResponseDto(product,
+                        images.getOrDefault(product.getId(), new ArrayList<>()),
+                        schedules.getOrDefault(product.getId(), new ArrayList<>())))
                 .toList();
+        Long nextCursor = products.hasNext() ? products.getContent().getLast().getId() : null;
 
         // 유저가 작성한 리뷰
         List<Review> reviews = reviewRepository.findByMemberId(member.getId());
 
-        return new TravellerReviewResponseDto(member, products, reviews);
+        return new TravellerReviewResponseDto(member, productDtos, nextCursor, reviews);
+
+    }
 
+    // 포인트는 반영되지 않은 내역까지 포함한 잔액으로 응답
+    private ProfileDto toProfile(Member member) {
+        ProfileDto profileDto = ProfileDto.of(member);
+        profileDto.setPoint(pointService.getBalance(member.getId()));
+        return profileDto;
     }
 }
@@ -0,0 +1,50 @@
+package com.demo.travellybe.point.domain;
+
+import com.demo.travellybe.util.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 증감 내역. 내역은 추가만 하고 금액은 수정하지 않는다.
+ * 아직 Member.point에 반영되지 않은(compacted = false) 내역은 주기적으로 합산하여 Member.point에 반영하며,
+ * 현재 잔액은 Member.point + 반영되지 않은 내역의 합이다.
+ * 회원 행을 잠그지 않도록 member_id는 외래 키 없이 값으로만 저장한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_point_transaction_member_compacted", columnList = "member_id, compacted"))
+public class PointTransaction extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_transaction_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    private Long reservationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointTransactionType type;
+
+    // 증감 금액 (적립 +, 차감 -)
+    private int amount;
+
+    // Member.point에 반영되었는지 여부
+    private boolean compacted;
+
+    public static PointTransaction of(Long memberId, Long reservationId, PointTransactionType type,
+                                      int amount, boolean compacted) {
+        PointTransaction pointTransaction = new PointTransaction();
+        pointTransaction.memberId = memberId;
+        pointTransaction.reservationId = reservationId;
+        pointTransaction.type = type;
+        pointTransaction.amount = amount;
+        pointTransaction.compacted = compacted;
+        return pointTransaction;
+    }
+}
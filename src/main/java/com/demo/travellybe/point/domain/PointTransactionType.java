@@ -0,0 +1,8 @@
+package com.demo.travellybe.point.domain;
+
+public enum PointTransactionType {
+    RESERVATION_PAYMENT, // 예약 결제 (구매자 차감)
+    RESERVATION_SALE, // 예약 판매 수익 (판매자 적립)
+    RESERVATION_REFUND, // 예약 환불 (구매자 적립)
+    RESERVATION_SALE_REFUND // 예약 환불에 따른 판매 수익 회수 (판매자 차감)
+}
@@ -0,0 +1,32 @@
+package com.demo.travellybe.point.repository;
+
+import com.demo.travellybe.point.domain.PointTransaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+
+    boolean existsByMemberIdAndCompactedFalse(Long memberId);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t WHERE t.memberId = :memberId AND t.compacted = false")
+    long sumPendingAmount(@Param("memberId") Long memberId);
+
+    // 반영할 내역을 잠그고 조회하여, 여러 서버에서 동시에 반영해도 같은 내역이 두 번 반영되지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM PointTransaction t WHERE t.memberId = :memberId AND t.compacted = false ORDER BY t.id")
+    List<PointTransaction> findPendingForUpdate(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("SELECT DISTINCT t.memberId FROM PointTransaction t WHERE t.compacted = false")
+    List<Long> findPendingMemberIds(Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PointTransaction t SET t.compacted = true WHERE t.id IN :ids")
+    int markCompacted(@Param("ids") List<Long> ids);
+}
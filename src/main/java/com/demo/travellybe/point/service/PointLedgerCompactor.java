@@ -0,0 +1,36 @@
+package com.demo.travellybe.point.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 중 Member.point에 반영되지 않은 내역을 주기적으로 반영한다.
+ * 회원별로 별도 트랜잭션에서 반영하므로 한 회원의 실패가 다른 회원의 반영을 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointLedgerCompactor {
+
+    private final PointService pointService;
+
+    @Value("${point.compaction.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${point.compaction.interval-ms:10000}")
+    public void compact() {
+        List<Long> memberIds = pointService.findPendingMemberIds(batchSize);
+        for (Long memberId : memberIds) {
+            try {
+                pointService.compact(memberId);
+            } catch (RuntimeException e) {
+                log.warn("포인트 내역 반영 실패: {}", memberId, e);
+            }
+        }
+    }
+}
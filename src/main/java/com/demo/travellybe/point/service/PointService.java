@@ -0,0 +1,17 @@
+package com.demo.travellybe.point.service;
+
+import com.demo.travellybe.point.domain.PointTransactionType;
+
+import java.util.List;
+
+public interface PointService {
+    /** 잔액이 충분할 때만 원자적으로 차감, 부족하면 MEMBER_NOT_ENOUGH_POINT */
+    void pay(Long memberId, Long reservationId, PointTransactionType type, int amount);
+    /** 포인트 증감 내역 추가 (회원 행을 잠그지 않고, 이후 반영 작업에서 Member.point에 반영) */
+    void record(Long memberId, Long reservationId, PointTransactionType type, int amount);
+    /** Member.point + 반영되지 않은 내역의 합 */
+    int getBalance(Long memberId);
+    /** 회원의 반영되지 않은 내역을 Member.point에 반영 */
+    void compact(Long memberId);
+    List<Long> findPendingMemberIds(int limit);
+}
@@ -0,0 +1,68 @@
+package com.demo.travellybe.point.service;
+
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.point.domain.PointTransaction;
+import com.demo.travellybe.point.domain.PointTransactionType;
+import com.demo.travellybe.point.repository.PointTransactionRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PointServiceImpl implements PointService {
+
+    private static final int COMPACTION_CHUNK_SIZE = 1000;
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void pay(Long memberId, Long reservationId, PointTransactionType type, int amount) {
+        // 반영되지 않은 적립(환불 등)이 있으면 먼저 반영하여 잔액 전체로 결제 가능하도록 함
+        // 반영 작업과 같은 순서(내역 -> 회원)로 잠그기 위해 차감보다 먼저 수행
+        if (pointTransactionRepository.existsByMemberIdAndCompactedFalse(memberId))
+            compact(memberId);
+        // 잔액 확인과 차감을 하나의 UPDATE로 처리하여 동시 결제 시 잔액이 음수가 되지 않도록 함
+        if (memberRepository.debitPoint(memberId, amount) == 0)
+            throw new CustomException(ErrorCode.MEMBER_NOT_ENOUGH_POINT);
+        // Member.point에 이미 반영된 내역으로 기록
+        pointTransactionRepository.save(PointTransaction.of(memberId, reservationId, type, -amount, true));
+    }
+
+    @Override
+    public void record(Long memberId, Long reservationId, PointTransactionType type, int amount) {
+        pointTransactionRepository.save(PointTransaction.of(memberId, reservationId, type, amount, false));
+    }
+
+    @Override
+    public int getBalance(Long memberId) {
+        int point = memberRepository.findPointById(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        return (int) (point + pointTransactionRepository.sumPendingAmount(memberId));
+    }
+
+    @Override
+    public void compact(Long memberId) {
+        List<PointTransaction> pending;
+        do {
+            pending = pointTransactionRepository.findPendingForUpdate(memberId, PageRequest.of(0, COMPACTION_CHUNK_SIZE));
+            if (pending.isEmpty()) return;
+
+            int amount = pending.stream().mapToInt(PointTransaction::getAmount).sum();
+            memberRepository.addPoint(memberId, amount);
+            pointTransactionRepository.markCompacted(pending.stream().map(PointTransaction::getId).toList());
+        } while (pending.size() == COMPACTION_CHUNK_SIZE);
+    }
+
+    @Override
+    public List<Long> findPendingMemberIds(int limit) {
+        return pointTransactionRepository.findPendingMemberIds(PageRequest.of(0, limit));
+    }
+}
@@ -0,0 +1,39 @@
+package com.demo.travellybe.product.backfill;
+
+import com.demo.travellybe.product.domain.ProductCapacity;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
+import com.demo.travellybe.product.repository.ProductRepository;
+import com.demo.travellybe.util.OneOffTasks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜/시간별 수량(ProductCapacity) 도입 전 데이터 보정.
+ * 이전에는 Product.quantity가 예약마다 차감되는 남은 재고였으므로, 거절, 취소되지 않은 예약 수량을 더해 원래 정원으로 되돌리고
+ * 같은 예약으로 날짜/시간별 예약 수량을 채운다. 더하기가 포함되므로 하나의 트랜잭션에서 정확히 한 번만 실행한다.
+ * 보정 전에 받은 홀드는 예약 수량에서 빠지므로, 이전 버전 서버를 모두 내린 뒤 처음 시작하는 서버에서 실행되어야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCapacityBackfill {
+
+    private static final String TASK_NAME = "product-capacity-backfill";
+
+    private final ProductRepository productRepository;
+    private final ProductCapacityRepository productCapacityRepository;
+    private final OneOffTasks oneOffTasks;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        oneOffTasks.runOnceInTransaction(TASK_NAME, () -> {
+            int products = productRepository.restoreQuantityFromReservations();
+            productCapacityRepository.resetReserved();
+            int capacities = productCapacityRepository.fillReservedFromReservations(ProductCapacity.ALL_DAY);
+            log.info("상품 정원 {}개 복원, 날짜/시간별 예약 수량 {}행 보정", products, capacities);
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.travellybe.product.backfill;
+
+import com.demo.travellybe.product.repository.ProductRepository;
+import com.demo.travellybe.util.OneOffTasks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리뷰 통계 컬럼(reviewCount, ratingSum)이 추가되기 전에 만들어진 상품은 0에서 시작하므로,
+ * 배포 후 한 번 리뷰 테이블에서 다시 계산해 채운다.
+ * 청크마다 상품 행을 먼저 잠근 뒤 READ COMMITTED로 리뷰를 세므로, 보정 중 작성된 리뷰는 이미 세었거나
+ * 잠금이 풀린 뒤 updateReviewStats로 더해져 한 번만 반영된다.
+ */
+@Slf4j
+@Component
+public class ProductReviewStatsBackfill {
+
+    private static final String TASK_NAME = "product-review-stats-backfill";
+
+    private final ProductRepository productRepository;
+    private final OneOffTasks oneOffTasks;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ProductReviewStatsBackfill(ProductRepository productRepository,
+                                      OneOffTasks oneOffTasks,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${product.backfill.chunk-size:500}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.oneOffTasks = oneOffTasks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        oneOffTasks.runOnce(TASK_NAME, Duration.ofMinutes(30), this::recomputeAll);
+    }
+
+    private void recomputeAll() {
+        int updated = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Long> productIds = productRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+            if (productIds.isEmpty()) break;
+
+            Integer chunkUpdated = transactionTemplate.execute(status -> {
+                productRepository.lockByIdIn(productIds);
+                return productRepository.recomputeReviewStats(productIds);
+            });
+            updated += chunkUpdated != null ? chunkUpdated : 0;
+
+            if (productIds.size() < chunkSize) break;
+            lastId = productIds.getLast();
+        }
+        log.info("상품 리뷰 통계 보정: {}개", updated);
+    }
+}
@@ -0,0 +1,115 @@
+package com.demo.travellybe.product.cache;
+
+import com.demo.travellybe.product.dto.response.ProductResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 상품 상세 조회 결과(ProductResponseDto) 2단계 캐시.
+ * L1은 서버별 Caffeine 캐시, L2는 Redis 캐시(RedisCacheManager)이며
+ * 상품이 바뀌면 커밋 이후 L2를 지우고 Redis pub/sub으로 모든 서버의 L1을 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache implements MessageListener {
+
+    public static final String CACHE_NAME = "productDetail";
+    public static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final String EVICT_CHANNEL = "product-detail:evict";
+
+    private final RedisCacheManager cacheManager;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 다른 서버의 변경은 pub/sub으로 지워지지만, 메시지 유실에 대비해 짧게 유지
+    private final Cache<Long, ProductResponseDto> localCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public ProductResponseDto get(Long productId) {
+        ProductResponseDto cached = localCache.getIfPresent(productId);
+        if (cached != null) return cached;
+
+        try {
+            cached = redisCache().get(productId, ProductResponseDto.class);
+        } catch (RuntimeException e) {
+            // Redis 장애나 역직렬화 실패 시 DB에서 조회
+            log.warn("상품 상세 캐시 조회 실패: {}", productId, e);
+            return null;
+        }
+        if (cached != null) localCache.put(productId, cached);
+        return cached;
+    }
+
+    public void put(Long productId, ProductResponseDto productResponseDto) {
+        localCache.put(productId, productResponseDto);
+        try {
+            redisCache().put(productId, productResponseDto);
+        } catch (RuntimeException e) {
+            log.warn("상품 상세 캐시 저장 실패: {}", productId, e);
+        }
+    }
+
+    /**
+     * 상품 상세 캐시를 무효화한다.
+     * 트랜잭션 안에서 호출되면 롤백된 변경으로 캐시를 지우거나, 커밋 전 값이 다시 캐시되지 않도록 커밋 이후에 지운다.
+     */
+    public void evict(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(productId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String productId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.parseLong(productId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 캐시 무효화 메시지: {}", productId);
+        }
+    }
+
+    private void evictNow(Long productId) {
+        localCache.invalidate(productId);
+        try {
+            redisCache().evict(productId);
+            redisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(productId));
+        } catch (RuntimeException e) {
+            log.warn("상품 상세 캐시 무효화 실패: {}", productId, e);
+        }
+    }
+
+    private org.springframework.cache.Cache redisCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
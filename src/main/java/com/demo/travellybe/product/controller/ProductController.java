@@ -7,10 +7,12 @@ import com.demo.travellybe.exception.ErrorResponse;
 import com.demo.travellybe.member.domain.Role;
 import com.demo.travellybe.product.dto.KeywordRankChangeDto;
 import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
+import com.demo.travellybe.product.dto.response.DailyCapacityResponseDto;
 import com.demo.travellybe.product.dto.response.MyProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductWithReservationCountDto;
 import com.demo.travellybe.product.dto.response.ProductsResponseDto;
+import com.demo.travellybe.product.dto.response.ProductsSliceResponseDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
 import com.demo.travellybe.product.service.ProductService;
 import com.demo.travellybe.util.S3Service;
@@ -23,12 +25,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
@@ -55,6 +59,26 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProductById(productId));
     }
 
+    @GetMapping("/{productId}/capacity")
+    @Operation(summary = "날짜별 남은 수량 조회",
+            description = "기간 내 운영일의 남은 예약 가능 수량을 하루 전체, 운영 시간별로 조회합니다. (최대 93일)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "400", description = "조회 기간이 유효하지 않습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "해당 상품을 찾을 수 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<List<DailyCapacityResponseDto>> getDailyCapacities(
+            @Parameter(description = "조회할 상품 ID", example = "1")
+            @PathVariable Long productId,
+            @Parameter(description = "조회 시작일", example = "2024-05-29")
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일", example = "2024-06-29")
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(productService.getDailyCapacities(productId, startDate, endDate));
+    }
+
     @DeleteMapping("/{productId}")
     @Operation(summary = "상품 삭제",
             description = "상품을 삭제합니다.",
@@ -142,6 +166,19 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "상품 목록 커서 조회",
+            description = "커서 기반으로 상품 목록을 조회합니다. 전체 개수는 제공하지 않습니다.\n" +
+                    "size 필수, 다음 페이지는 이전 응답의 nextCursor를 cursor로 전달",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<ProductsSliceResponseDto> getProductsByCursor(ProductsSearchRequestDto searchDto) {
+        return ResponseEntity.ok(productService.getSearchedProductsByCursor(searchDto));
+    }
+
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "이미지 업로드",
             description = "이미지를 업로드합니다.",
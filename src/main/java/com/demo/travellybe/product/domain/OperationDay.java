@@ -2,22 +2,26 @@ package com.demo.travellybe.product.domain;
 
 import com.demo.travellybe.product.dto.OperationDayDto;
 import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.search.ProductAvailabilityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(ProductAvailabilityListener.class)
 public class OperationDay {
 
+    // 운영 시간을 정하지 않은 날의 운영 시간 (하루 종일)
+    public static final LocalTime ALL_DAY_START_TIME = LocalTime.of(0, 1);
+    public static final LocalTime ALL_DAY_END_TIME = LocalTime.of(23, 59);
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "operation_day_id")
     private Long id;
@@ -36,21 +40,32 @@ public class OperationDay {
         OperationDay operationDay = new OperationDay();
         operationDay.date = operationDayDto.getDate();
         operationDay.product = product;
-
-        if (operationDayDto.getOperationDayHours() == null) {
-            OperationDayHourDto operationDayHourDto = OperationDayHourDto.builder()
-                    .startTime(LocalTime.of(0, 1))
-                    .endTime(LocalTime.of(23, 59))
-                    .build();
-            operationDay.operationHours.add(OperationHour.of(operationDayHourDto, operationDay));
-        } else {
-            operationDay.operationHours = operationDayDto.getOperationDayHours().stream().map(operationDayHourDto ->
-                    OperationHour.of(operationDayHourDto, operationDay))
-                    .collect(Collectors.toList());
-        }
+        operationDay.operationHours = getOperationHourDtos(operationDayDto).stream()
+                .map(operationDayHourDto -> OperationHour.of(operationDayHourDto, operationDay))
+                .collect(Collectors.toList());
         return operationDay;
     }
 
+    // 같은 시작, 종료 시간의 운영 시간은 유지하고 바뀐 운영 시간만 추가, 삭제
+    public void updateOperationHours(OperationDayDto operationDayDto) {
+        Set<OperationHour> newOperationHours = getOperationHourDtos(operationDayDto).stream()
+                .map(operationDayHourDto -> OperationHour.of(operationDayHourDto, this))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        this.operationHours.removeIf(operationHour -> !newOperationHours.contains(operationHour));
+        newOperationHours.removeAll(new HashSet<>(this.operationHours));
+        this.operationHours.addAll(newOperationHours);
+    }
+
+    // 운영 시간이 없으면 하루 종일(00:01 ~ 23:59) 운영
+    private static List<OperationDayHourDto> getOperationHourDtos(OperationDayDto operationDayDto) {
+        if (operationDayDto.getOperationDayHours() != null) return operationDayDto.getOperationDayHours();
+        return List.of(OperationDayHourDto.builder()
+                .startTime(ALL_DAY_START_TIME)
+                .endTime(ALL_DAY_END_TIME)
+                .build());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
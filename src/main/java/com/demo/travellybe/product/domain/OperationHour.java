@@ -1,6 +1,7 @@
 package com.demo.travellybe.product.domain;
 
 import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.search.ProductAvailabilityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import java.util.Objects;
 @Entity
 @Getter
 @NoArgsConstructor
+@EntityListeners(ProductAvailabilityListener.class)
 public class OperationHour {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
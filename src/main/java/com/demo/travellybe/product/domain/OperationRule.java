@@ -0,0 +1,139 @@
+package com.demo.travellybe.product.domain;
+
+import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.dto.OperationRuleDto;
+import com.demo.travellybe.product.search.ProductAvailabilityListener;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 반복 운영 규칙. "startDate ~ endDate 기간의 지정한 요일, startTime ~ endTime (excludedDates 제외)"
+ * 날짜별 OperationDay 행을 만들지 않고 필요할 때 날짜 목록으로 펼친다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@EntityListeners(ProductAvailabilityListener.class)
+public class OperationRule {
+
+    // 규칙 하나의 최대 기간 (날짜로 펼칠 때의 크기 제한)
+    public static final int MAX_PERIOD_DAYS = 366;
+    private static final int ALL_DAYS = 0b1111111;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "operation_rule_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    // 운영 요일 비트 (월요일 1, 화요일 2, ... 일요일 64)
+    @Column(nullable = false)
+    private int daysOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @ElementCollection
+    @CollectionTable(name = "operation_rule_excluded_date", joinColumns = @JoinColumn(name = "operation_rule_id"))
+    @Column(name = "excluded_date")
+    private Set<LocalDate> excludedDates = new HashSet<>();
+
+    public static OperationRule of(OperationRuleDto operationRuleDto, Product product) {
+        OperationRule operationRule = new OperationRule();
+        operationRule.product = product;
+        operationRule.startDate = operationRuleDto.getStartDate();
+        operationRule.endDate = operationRuleDto.getEndDate();
+
+        int days = 0;
+        if (operationRuleDto.getDaysOfWeek() != null) {
+            for (DayOfWeek dayOfWeek : operationRuleDto.getDaysOfWeek()) {
+                days |= bit(dayOfWeek);
+            }
+        }
+        operationRule.daysOfWeek = days == 0 ? ALL_DAYS : days;
+
+        // OperationDay와 같이 시간이 없으면 하루 종일(00:01 ~ 23:59) 운영
+        operationRule.startTime = operationRuleDto.getStartTime() != null
+                ? operationRuleDto.getStartTime() : OperationDay.ALL_DAY_START_TIME;
+        operationRule.endTime = operationRuleDto.getEndTime() != null
+                ? operationRuleDto.getEndTime() : OperationDay.ALL_DAY_END_TIME;
+        if (operationRuleDto.getExcludedDates() != null) {
+            operationRule.excludedDates.addAll(operationRuleDto.getExcludedDates());
+        }
+        return operationRule;
+    }
+
+    public boolean isOperatingOn(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate)
+                && (daysOfWeek & bit(date.getDayOfWeek())) != 0
+                && !excludedDates.contains(date);
+    }
+
+    // 규칙에 해당하는 날짜를 모두 펼침 (제한 이전에 저장된 규칙도 MAX_PERIOD_DAYS까지만)
+    public List<LocalDate> getOperationDates() {
+        return getOperationDates(startDate, startDate.plusDays(MAX_PERIOD_DAYS - 1));
+    }
+
+    // from ~ to 기간 안에서 규칙에 해당하는 날짜만 펼침
+    public List<LocalDate> getOperationDates(LocalDate from, LocalDate to) {
+        LocalDate first = from.isAfter(startDate) ? from : startDate;
+        LocalDate last = to.isBefore(endDate) ? to : endDate;
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            if (isOperatingOn(date)) dates.add(date);
+        }
+        return dates;
+    }
+
+    public OperationDayHourDto getOperationHour() {
+        return OperationDayHourDto.builder()
+                .startTime(startTime)
+                .endTime(endTime)
+                .build();
+    }
+
+    public List<DayOfWeek> getDaysOfWeekList() {
+        return Arrays.stream(DayOfWeek.values())
+                .filter(dayOfWeek -> (daysOfWeek & bit(dayOfWeek)) != 0)
+                .toList();
+    }
+
+    public static int bit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OperationRule that = (OperationRule) o;
+        return daysOfWeek == that.daysOfWeek &&
+                Objects.equals(startDate, that.startDate) &&
+                Objects.equals(endDate, that.endDate) &&
+                Objects.equals(startTime, that.startTime) &&
+                Objects.equals(endTime, that.endTime) &&
+                Objects.equals(new HashSet<>(excludedDates), new HashSet<>(that.excludedDates));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, daysOfWeek, startTime, endTime, new HashSet<>(excludedDates));
+    }
+}
@@ -3,21 +3,32 @@ package com.demo.travellybe.product.domain;
 import com.demo.travellybe.Reservation.domain.Reservation;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.dto.OperationRuleDto;
+import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
 import com.demo.travellybe.product.dto.TicketDto;
+import com.demo.travellybe.product.search.ProductSearchIndexListener;
 import com.demo.travellybe.review.domain.Review;
 import com.demo.travellybe.util.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDate;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_product_created_date", columnList = "created_date"),
+        @Index(name = "idx_product_min_price", columnList = "min_price"),
+        @Index(name = "idx_product_rating", columnList = "rating"),
+        @Index(name = "idx_product_review_count", columnList = "review_count")
+})
+@EntityListeners(ProductSearchIndexListener.class)
 public class Product extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +43,10 @@ public class Product extends BaseTimeEntity {
     @OrderBy("date ASC")
     private List<OperationDay> operationDays = new ArrayList<>();
 
+    // 반복 운영 규칙 (날짜별 운영일과 함께 사용 가능)
+    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<OperationRule> operationRules = new ArrayList<>();
+
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Review> reviews = new ArrayList<>();
 
@@ -46,6 +61,10 @@ public class Product extends BaseTimeEntity {
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProductImage> images = new ArrayList<>();
 
+    // 날짜/시간별 예약 수량 (상품 삭제 시 함께 삭제)
+    @OneToMany(mappedBy = "product", cascade = CascadeType.REMOVE)
+    private List<ProductCapacity> capacities = new ArrayList<>();
+
     @Column(nullable = false)
     private String name;
 
@@ -70,6 +89,7 @@ public class Product extends BaseTimeEntity {
     @Column(nullable = false)
     private String cityCode;
 
+    // 날짜별 정원 (운영 시간이 있는 날은 운영 시간별 정원), 예약된 수량은 ProductCapacity에 집계
     @Column(nullable = false)
     private int quantity;
 
@@ -79,6 +99,13 @@ public class Product extends BaseTimeEntity {
     @Column(nullable = false)
     private double rating;
 
+    // 리뷰 개수, 평점 합계는 리뷰 작성/수정/삭제 시 ProductRepository.updateReviewStats로 갱신
+    @Column(nullable = false)
+    private int reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
     public static Product of(ProductCreateRequestDto productCreateRequestDto) {
         Product product = new Product();
         product.name = productCreateRequestDto.getName();
@@ -104,9 +131,12 @@ public class Product extends BaseTimeEntity {
         product.maxPrice = productCreateRequestDto.getTickets().stream()
                 .map(TicketDto::getPrice).max(Integer::compareTo).orElse(0);
 
-        product.operationDays = productCreateRequestDto.getOperationDays().stream().map(
+        product.operationDays = nullToEmpty(productCreateRequestDto.getOperationDays()).stream().map(
                 operationDayDto -> OperationDay.of(operationDayDto, product))
                 .collect(Collectors.toList());
+        product.operationRules = nullToEmpty(productCreateRequestDto.getOperationRules()).stream().map(
+                operationRuleDto -> OperationRule.of(operationRuleDto, product))
+                .collect(Collectors.toList());
         return product;
     }
 
@@ -126,80 +156,155 @@ public class Product extends BaseTimeEntity {
                 .map(TicketDto::getPrice).max(Integer::compareTo).orElse(0);
         // rating, reviewCount는 리뷰를 통해 업데이트되는 값이므로 업데이트하지 않음
 
-        // images 컬렉션 업데이트
-        List<ProductImage> newImages = productCreateRequestDto.getImages().stream()
-                .map(imageDto -> ProductImage.of(imageDto.getUrl(), imageDto.getOrder(), this))
-                .toList();
-        this.images.clear();
+        // 컬렉션은 변경된 항목만 추가, 삭제, 수정 (전체를 지우고 다시 넣지 않음)
+        updateImages(productCreateRequestDto.getImages());
+        updateOperationDays(nullToEmpty(productCreateRequestDto.getOperationDays()));
+        updateOperationRules(nullToEmpty(productCreateRequestDto.getOperationRules()));
+        updateTickets(productCreateRequestDto.getTickets());
+    }
+
+    // 같은 URL의 이미지는 유지하고 순서만 수정
+    private void updateImages(List<ProductImageDto> imageDtos) {
+        Map<String, ProductImage> existingImages = new HashMap<>();
+        for (ProductImage image : this.images) {
+            existingImages.putIfAbsent(image.getUrl(), image);
+        }
+
+        Set<ProductImage> keptImages = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<ProductImage> newImages = new ArrayList<>();
+        for (ProductImageDto imageDto : imageDtos) {
+            ProductImage existingImage = existingImages.remove(imageDto.getUrl());
+            if (existingImage != null) {
+                existingImage.updateOrder(imageDto.getOrder());
+                keptImages.add(existingImage);
+            } else {
+                newImages.add(ProductImage.of(imageDto.getUrl(), imageDto.getOrder(), this));
+            }
+        }
+        this.images.removeIf(image -> !keptImages.contains(image));
         this.images.addAll(newImages);
+    }
 
-        // operationDays 컬렉션 업데이트
-        List<OperationDay> newOperationDays = getOperationDays(productCreateRequestDto);
-        this.operationDays.clear();
+    // 같은 날짜의 운영일은 유지하고 운영 시간만 비교하여 수정
+    private void updateOperationDays(List<OperationDayDto> operationDayDtos) {
+        Map<LocalDate, OperationDay> existingDays = new HashMap<>();
+        for (OperationDay operationDay : this.operationDays) {
+            existingDays.putIfAbsent(operationDay.getDate(), operationDay);
+        }
+
+        Set<LocalDate> dates = new HashSet<>();
+        List<OperationDay> newOperationDays = new ArrayList<>();
+        for (OperationDayDto operationDayDto : operationDayDtos) {
+            if (!dates.add(operationDayDto.getDate())) continue;
+            OperationDay existingDay = existingDays.get(operationDayDto.getDate());
+            if (existingDay != null) {
+                existingDay.updateOperationHours(operationDayDto);
+            } else {
+                newOperationDays.add(OperationDay.of(operationDayDto, this));
+            }
+        }
+        this.operationDays.removeIf(operationDay -> !dates.contains(operationDay.getDate()));
         this.operationDays.addAll(newOperationDays);
+    }
 
+    // 내용이 같은 운영 규칙은 유지하고 바뀐 규칙만 추가, 삭제
+    private void updateOperationRules(List<OperationRuleDto> operationRuleDtos) {
+        Set<OperationRule> newOperationRules = operationRuleDtos.stream()
+                .map(operationRuleDto -> OperationRule.of(operationRuleDto, this))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // tickets 컬렉션 업데이트
-        List<Ticket> newTickets = getTickets(productCreateRequestDto);
-        this.tickets.clear();
+        this.operationRules.removeIf(operationRule -> !newOperationRules.contains(operationRule));
+        newOperationRules.removeAll(new HashSet<>(this.operationRules));
+        this.operationRules.addAll(newOperationRules);
+    }
+
+    // 같은 이름의 티켓은 유지하고 가격만 수정 (기존 예약의 티켓이 삭제되지 않도록)
+    private void updateTickets(List<TicketDto> ticketDtos) {
+        Map<String, Ticket> existingTickets = new HashMap<>();
+        for (Ticket ticket : this.tickets) {
+            existingTickets.putIfAbsent(ticket.getName(), ticket);
+        }
+
+        Set<Ticket> keptTickets = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Ticket> newTickets = new ArrayList<>();
+        for (TicketDto ticketDto : ticketDtos) {
+            Ticket existingTicket = existingTickets.remove(ticketDto.getName());
+            if (existingTicket != null) {
+                existingTicket.updatePrice(ticketDto.getPrice());
+                keptTickets.add(existingTicket);
+            } else {
+                newTickets.add(Ticket.of(ticketDto, this));
+            }
+        }
+        this.tickets.removeIf(ticket -> !keptTickets.contains(ticket));
         this.tickets.addAll(newTickets);
     }
 
-    private List<OperationDay> getOperationDays(ProductCreateRequestDto productCreateRequestDto) {
-        return productCreateRequestDto.getOperationDays().stream()
-                .map(operationDayDto -> {
-                    for (OperationDay existingOperationDay : this.operationDays) {
-                        if (existingOperationDay.equals(OperationDay.of(operationDayDto, this))) {
-                            // operationHours 컬렉션 업데이트
-                            List<OperationHour> newOperationHours = getOperationHours(operationDayDto, existingOperationDay);
-                            existingOperationDay.getOperationHours().clear();
-                            existingOperationDay.getOperationHours().addAll(newOperationHours);
-                            return existingOperationDay;
-                        }
-                    }
-                    return OperationDay.of(operationDayDto, this);
-                })
-                .toList();
+    /**
+     * 날짜별 운영일과 운영 규칙을 합친 운영 일정을 날짜 순으로 반환한다.
+     * 같은 날짜의 운영 시간은 하나의 OperationDayDto로 합친다.
+     */
+    public List<OperationDayDto> getOperationSchedule() {
+        TreeMap<LocalDate, List<OperationDayHourDto>> schedule = new TreeMap<>();
+        for (OperationDay operationDay : this.operationDays) {
+            List<OperationDayHourDto> hours = schedule.computeIfAbsent(operationDay.getDate(), date -> new ArrayList<>());
+            operationDay.getOperationHours().forEach(operationHour -> hours.add(new OperationDayHourDto(operationHour)));
+        }
+        return toOperationSchedule(schedule, this.operationRules);
     }
 
-    private List<OperationHour> getOperationHours(OperationDayDto operationDayDto, OperationDay existingOperationDay) {
-        return operationDayDto.getOperationDayHours().stream()
-                .map(operationHourDto -> {
-                    for (OperationHour existingOperationHour : existingOperationDay.getOperationHours()) {
-                        if (existingOperationHour.equals(OperationHour.of(operationHourDto, existingOperationDay))) {
-                            return existingOperationHour;
-                        }
-                    }
-                    return OperationHour.of(operationHourDto, existingOperationDay);
-                })
+    /**
+     * 날짜별 운영 시간(운영일)에 운영 규칙을 펼쳐 합친 운영 일정.
+     * 여러 상품의 운영일, 운영 규칙을 한 번에 조회한 경우에도 getOperationSchedule과 같은 결과를 만들기 위해 사용한다.
+     */
+    public static List<OperationDayDto> toOperationSchedule(TreeMap<LocalDate, List<OperationDayHourDto>> schedule,
+                                                            Collection<OperationRule> operationRules) {
+        for (OperationRule operationRule : operationRules) {
+            for (LocalDate date : operationRule.getOperationDates()) {
+                schedule.computeIfAbsent(date, key -> new ArrayList<>()).add(operationRule.getOperationHour());
+            }
+        }
+        return schedule.entrySet().stream()
+                .map(entry -> OperationDayDto.builder()
+                        .date(entry.getKey())
+                        .operationDayHours(entry.getValue())
+                        .build())
                 .toList();
     }
 
-    private List<Ticket> getTickets(ProductCreateRequestDto productCreateRequestDto) {
-        return productCreateRequestDto.getTickets().stream()
-                .map(ticketDto -> {
-                    for (Ticket existingTicket : this.tickets) {
-                        if (existingTicket.equals(Ticket.of(ticketDto, this))) {
-                            return existingTicket;
-                        }
-                    }
-                    return Ticket.of(ticketDto, this);
-                })
-                .toList();
+    public boolean isOperatingOn(LocalDate date) {
+        return this.operationDays.stream().anyMatch(operationDay -> operationDay.getDate().equals(date))
+                || this.operationRules.stream().anyMatch(operationRule -> operationRule.isOperatingOn(date));
     }
 
-    public void addReview(Review review) {
-        this.reviews.add(review);
-        review.setProduct(this);
+    // 해당 날짜의 운영 시간 (운영일, 운영 규칙 모두 포함)
+    public List<OperationDayHourDto> getOperationHours(LocalDate date) {
+        List<OperationDayHourDto> hours = new ArrayList<>();
+        this.operationDays.stream()
+                .filter(operationDay -> operationDay.getDate().equals(date))
+                .forEach(operationDay -> operationDay.getOperationHours()
+                        .forEach(operationHour -> hours.add(new OperationDayHourDto(operationHour))));
+        this.operationRules.stream()
+                .filter(operationRule -> operationRule.isOperatingOn(date))
+                .forEach(operationRule -> hours.add(operationRule.getOperationHour()));
+        return hours;
+    }
+
+    // 운영 시간을 정하지 않아 하루 종일 운영하는 날짜인지 (운영하지 않는 날짜는 false)
+    public boolean isAllDayOn(LocalDate date) {
+        List<OperationDayHourDto> hours = getOperationHours(date);
+        return !hours.isEmpty() && hours.stream().allMatch(hour ->
+                OperationDay.ALL_DAY_START_TIME.equals(hour.getStartTime())
+                        && OperationDay.ALL_DAY_END_TIME.equals(hour.getEndTime()));
+    }
 
-//        this.rating = ((this.rating * (this.reviewCount - 1)) + review.getRating()) / this.reviewCount;
-        this.rating = this.reviews.stream()
-                .mapToDouble(Review::getRating)
-                .average().orElse(0.0);
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return list != null ? list : List.of();
     }
 
-    public void setQuantity(int quantity) {
-        this.quantity = quantity;
+    public void addReview(Review review) {
+        this.reviews.add(review);
+        review.setProduct(this);
     }
 
     public void setMember(Member member) {
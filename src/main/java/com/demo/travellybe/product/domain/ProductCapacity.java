@@ -0,0 +1,47 @@
+package com.demo.travellybe.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 상품의 날짜(+ 운영 시간) 단위 예약 수량.
+ * 정원은 Product.quantity이고 여기에는 예약된 수량만 저장하므로, 판매자가 정원을 바꿔도 행을 고칠 필요가 없다.
+ * 운영 시간이 있는 날은 운영 시간별 행으로, 운영 시간이 없는 날은 startTime이 ALL_DAY인 행 하나로 집계한다.
+ * 운영 시간이 있는 날에는 시간을 지정하지 않은 예약을 받지 않으므로, 하루 전체 행과 운영 시간별 행이 같은 정원을 나누어 쓰지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_product_capacity_slot",
+        columnNames = {"product_id", "date", "start_time"}))
+public class ProductCapacity {
+
+    // 하루 전체(시간 미지정) 예약을 나타내는 startTime, 00:00에 시작하는 운영 시간과 겹치지 않도록 초 단위 값을 사용
+    public static final LocalTime ALL_DAY = LocalTime.of(23, 59, 59);
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_capacity_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private int reserved;
+
+    public static LocalTime slotOf(LocalTime startTime) {
+        return startTime != null ? startTime : ALL_DAY;
+    }
+}
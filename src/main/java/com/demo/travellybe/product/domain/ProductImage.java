@@ -30,4 +30,8 @@ public class ProductImage {
         productImage.imageOrder = order;
         return productImage;
     }
+
+    public void updateOrder(int order) {
+        this.imageOrder = order;
+    }
 }
@@ -56,6 +56,10 @@ public class Ticket {
         return ticket;
     }
 
+    public void updatePrice(int price) {
+        this.price = price;
+    }
+
     public void addReservationTicket(ReservationTicket reservationTicket) {
         reservationTicket.setTicket(this);
     }
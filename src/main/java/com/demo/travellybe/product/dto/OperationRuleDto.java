@@ -0,0 +1,59 @@
+package com.demo.travellybe.product.dto;
+
+import com.demo.travellybe.product.domain.OperationRule;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+public class OperationRuleDto {
+    @NotNull
+    @Schema(description = "운영 시작 날짜", example = "2024-06-01")
+    private LocalDate startDate;
+
+    @NotNull
+    @Schema(description = "운영 종료 날짜", example = "2024-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "운영 요일 (비어 있으면 매일)", example = "[\"MONDAY\", \"TUESDAY\", \"WEDNESDAY\", \"THURSDAY\", \"FRIDAY\"]")
+    private List<DayOfWeek> daysOfWeek = new ArrayList<>();
+
+    @Schema(description = "시작 시간 (비어 있으면 00:01)", example = "09:00")
+    private LocalTime startTime;
+
+    @Schema(description = "종료 시간 (비어 있으면 23:59)", example = "18:00")
+    private LocalTime endTime;
+
+    @Schema(description = "운영하지 않는 날짜", example = "[\"2024-09-16\", \"2024-09-17\"]")
+    private List<LocalDate> excludedDates = new ArrayList<>();
+
+    public OperationRuleDto(OperationRule operationRule) {
+        this.startDate = operationRule.getStartDate();
+        this.endDate = operationRule.getEndDate();
+        this.daysOfWeek = operationRule.getDaysOfWeekList();
+        this.startTime = operationRule.getStartTime();
+        this.endTime = operationRule.getEndTime();
+        this.excludedDates = operationRule.getExcludedDates().stream().sorted().toList();
+    }
+
+    @Builder
+    public OperationRuleDto(LocalDate startDate, LocalDate endDate, List<DayOfWeek> daysOfWeek,
+                            LocalTime startTime, LocalTime endTime, List<LocalDate> excludedDates) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.daysOfWeek = daysOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.excludedDates = excludedDates;
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.travellybe.product.dto;
+
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import com.demo.travellybe.product.domain.Product;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서. 마지막 상품의 정렬 값과 상품 ID를 담아 Base64 문자열로 주고받는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final String value;
+    private final Long productId;
+
+    public static String encode(String sort, Product product) {
+        String value = switch (sort) {
+            case "LowestPrice" -> String.valueOf(product.getMinPrice());
+            case "HighestRating" -> String.valueOf(product.getRating());
+            case "MostReviews" -> String.valueOf(product.getReviewCount());
+            default -> product.getCreatedDate().toString();
+        };
+        String raw = sort + DELIMITER + value + DELIMITER + product.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token, String sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            // 다른 정렬 방식으로 발급된 커서는 사용할 수 없음
+            if (parts.length != 3 || !parts[0].equals(sort)) throw new CustomException(ErrorCode.PRODUCT_INVALID_CURSOR);
+
+            ProductCursor cursor = new ProductCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            switch (sort) {
+                case "LowestPrice", "MostReviews" -> cursor.getIntValue();
+                case "HighestRating" -> cursor.getDoubleValue();
+                default -> cursor.getDateTimeValue();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.PRODUCT_INVALID_CURSOR);
+        }
+    }
+
+    public int getIntValue() {
+        return Integer.parseInt(value);
+    }
+
+    public double getDoubleValue() {
+        return Double.parseDouble(value);
+    }
+
+    public LocalDateTime getDateTimeValue() {
+        return LocalDateTime.parse(value);
+    }
+}
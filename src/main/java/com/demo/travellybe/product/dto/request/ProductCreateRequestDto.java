@@ -1,6 +1,7 @@
 package com.demo.travellybe.product.dto.request;
 
 import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.OperationRuleDto;
 import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.product.dto.TicketDto;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -52,14 +53,16 @@ public class ProductCreateRequestDto {
     private String cityCode;
 
     @NotNull
-    @Schema(description = "상품 수량", example = "100")
+    @Schema(description = "날짜(운영 시간)별 예약 가능 수량", example = "100")
     private int quantity;
 
     @NotNull
     @Schema(description = "티켓")
     private List<TicketDto> tickets;
 
-    @NotNull
-    @Schema(description = "운영 요일 및 시간")
+    @Schema(description = "운영 날짜 및 시간 (날짜별로 지정)")
     private List<OperationDayDto> operationDays;
+
+    @Schema(description = "반복 운영 규칙 (예: 기간 내 평일 09:00 ~ 18:00)")
+    private List<OperationRuleDto> operationRules;
 }
\ No newline at end of file
@@ -30,6 +30,14 @@ public class ProductsRequestDto {
         this.sort = sort != null ? sort : this.sort;
     }
 
+    // 정의되지 않은 정렬 방식은 Newest로 처리
+    public String resolveSort() {
+        return switch (sort != null ? sort : "Newest") {
+            case "LowestPrice", "HighestRating", "MostReviews" -> sort;
+            default -> "Newest";
+        };
+    }
+
     public Pageable toPageable() {
         String sortField = switch (sort) {
             case "LowestPrice" -> "minPrice";
@@ -39,8 +39,11 @@ public class ProductsSearchRequestDto extends ProductsRequestDto {
     @Schema(example = "20000")
     private Integer maxPrice;
 
+    @Schema(description = "커서 기반 조회 시 이전 응답의 nextCursor (첫 페이지는 생략)")
+    private String cursor;
+
     @Builder(builderMethodName = "searchBuilder")
-    public ProductsSearchRequestDto(String keyword, String cityCode, String contentType, LocalDate startDate, LocalDate endDate, String startTime, String endTime, Integer minPrice, Integer maxPrice, int page, int size, String sort) {
+    public ProductsSearchRequestDto(String keyword, String cityCode, String contentType, LocalDate startDate, LocalDate endDate, String startTime, String endTime, Integer minPrice, Integer maxPrice, String cursor, int page, int size, String sort) {
         super(page, size, sort);
         this.keyword = keyword;
         this.cityCode = cityCode;
@@ -51,5 +54,6 @@ public class ProductsSearchRequestDto extends ProductsRequestDto {
         this.endTime = endTime;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
+        this.cursor = cursor;
     }
 }
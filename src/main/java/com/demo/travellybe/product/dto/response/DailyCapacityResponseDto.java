@@ -0,0 +1,25 @@
+package com.demo.travellybe.product.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+public class DailyCapacityResponseDto {
+    @Schema(description = "운영 날짜", example = "2024-05-29")
+    private LocalDate date;
+    @Schema(description = "남은 수량 (운영 시간이 있는 날은 운영 시간별 남은 수량의 합)", example = "10")
+    private int remaining;
+    @Schema(description = "운영 시간별 남은 수량 (하루 종일 운영하는 날은 비어 있음)")
+    private List<SlotCapacityResponseDto> slots;
+
+    public DailyCapacityResponseDto(LocalDate date, int remaining, List<SlotCapacityResponseDto> slots) {
+        this.date = date;
+        this.remaining = remaining;
+        this.slots = slots;
+    }
+}
@@ -25,9 +25,13 @@ public class MyProductResponseDto {
     private int reviewCount;
 
     public MyProductResponseDto(Product product, int reviewCount) {
+        this(product, product.getImages().stream().map(ProductImageDto::new).toList(), reviewCount);
+    }
+
+    public MyProductResponseDto(Product product, List<ProductImageDto> images, int reviewCount) {
         this.id = product.getId();
         this.name = product.getName();
-        this.images = product.getImages().stream().map(ProductImageDto::new).toList();
+        this.images = images;
         this.address = product.getAddress();
         this.detailAddress = product.getDetailAddress();
         this.rating = product.getRating();
@@ -2,6 +2,7 @@ package com.demo.travellybe.product.dto.response;
 
 import com.demo.travellybe.product.domain.Product;
 import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.OperationRuleDto;
 import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.review.dto.ReviewResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -55,6 +56,9 @@ public class ProductResponseDto {
     @Schema(description = "운영 요일 및 시간")
     private List<OperationDayDto> operationDays;
 
+    @Schema(description = "반복 운영 규칙")
+    private List<OperationRuleDto> operationRules;
+
     @Schema(description = "리뷰 개수", example = "10")
     private int reviewCount;
 
@@ -80,7 +84,8 @@ public class ProductResponseDto {
         this.ticketDto = product.getTickets().stream().map(TicketResponseDto::new).toList();
         this.rating = product.getRating();
         this.reviewCount = reviewCount;
-        this.operationDays = product.getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = product.getOperationSchedule();
+        this.operationRules = product.getOperationRules().stream().map(OperationRuleDto::new).toList();
         this.createdDate = product.getCreatedDate();
         this.modifiedDate = product.getModifiedDate();
     }
@@ -25,7 +25,7 @@ public class ProductWithReservationCountDto {
         this.name = product.getName();
         this.price = product.getMaxPrice();
         this.images = product.getImages().stream().map(ProductImageDto::new).toList();
-        this.operationDays = product.getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = product.getOperationSchedule();
         this.reviewCount = reviewCount;
     }
 }
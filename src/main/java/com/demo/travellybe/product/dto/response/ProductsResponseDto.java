@@ -58,15 +58,25 @@ public class ProductsResponseDto {
     private LocalDateTime modifiedDate;
 
     public ProductsResponseDto(Product product, int reviewCount) {
+        this(product,
+                product.getMember().getNickname(),
+                product.getImages().stream().map(ProductImageDto::new).toList(),
+                product.getTickets().stream().map(TicketDto::new).toList(),
+                reviewCount);
+    }
+
+    // 판매자 이름, 이미지, 티켓을 미리 조회해 둔 경우 (ProductRepositoryImpl.findProductCards)
+    public ProductsResponseDto(Product product, String sellerName, List<ProductImageDto> images,
+                               List<TicketDto> tickets, int reviewCount) {
         this.id = product.getId();
         this.name = product.getName();
-        this.sellerName = product.getMember().getNickname();
+        this.sellerName = sellerName;
         this.type = product.getType();
-        this.images = product.getImages().stream().map(ProductImageDto::new).toList();
+        this.images = images;
         this.address = formatAddress(product.getAddress());
         this.cityCode = product.getCityCode();
         this.quantity = product.getQuantity();
-        this.ticketDto = product.getTickets().stream().map(TicketDto::new).toList();
+        this.ticketDto = tickets;
         this.rating = product.getRating();
         this.reviewCount = reviewCount;
         this.createdDate = product.getCreatedDate();
@@ -0,0 +1,24 @@
+package com.demo.travellybe.product.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalTime;
+
+@Getter
+@Setter
+public class SlotCapacityResponseDto {
+    @Schema(description = "시작 시간", example = "09:00")
+    private LocalTime startTime;
+    @Schema(description = "종료 시간", example = "12:00")
+    private LocalTime endTime;
+    @Schema(description = "남은 수량", example = "10")
+    private int remaining;
+
+    public SlotCapacityResponseDto(LocalTime startTime, LocalTime endTime, int remaining) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.remaining = remaining;
+    }
+}
@@ -4,8 +4,10 @@ import com.demo.travellybe.product.domain.Ticket;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class TicketResponseDto {
     @Schema(description = "티켓 ID", example = "1")
     private Long id;
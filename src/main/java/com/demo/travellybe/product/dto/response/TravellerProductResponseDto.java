@@ -25,6 +25,15 @@ public class TravellerProductResponseDto {
         this.name = product.getName();
         this.price = product.getMaxPrice();
         this.images = product.getImages().stream().map(ProductImageDto::new).toList();
-        this.operationDays = product.getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = product.getOperationSchedule();
+    }
+
+    // 이미지, 운영 일정을 상품 목록 단위로 한 번에 조회한 경우
+    public TravellerProductResponseDto(Product product, List<ProductImageDto> images, List<OperationDayDto> operationDays) {
+        this.id = product.getId();
+        this.name = product.getName();
+        this.price = product.getMaxPrice();
+        this.images = images;
+        this.operationDays = operationDays;
     }
 }
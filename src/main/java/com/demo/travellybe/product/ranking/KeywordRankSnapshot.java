@@ -0,0 +1,125 @@
+package com.demo.travellybe.product.ranking;
+
+import com.demo.travellybe.product.dto.KeywordRankChangeDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인기 검색어 순위 변화 스냅샷.
+ * 주기적으로 popular_keywords를 시각별 스냅샷으로 복사하고, 직전 스냅샷과 비교한 top 10 순위 변화를 미리 계산해 둔다.
+ * 조회 시에는 계산된 목록을 한 번에 읽으며, 스냅샷 주기 동안 서버 메모리에 캐시한다.
+ */
+@Slf4j
+@Component
+public class KeywordRankSnapshot {
+
+    public static final String POPULAR_KEYWORDS_KEY = "popular_keywords";
+    private static final String SNAPSHOT_KEY_PREFIX = "popular_keywords:snapshot:";
+    private static final String LATEST_SNAPSHOT_KEY = "popular_keywords:snapshot:latest";
+    private static final String RANK_CHANGE_KEY = "popular_keywords:rank_change";
+    private static final String LOCK_KEY = "popular_keywords:snapshot:lock";
+    private static final String SEPARATOR = "|";
+    private static final int TOP_SIZE = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration snapshotInterval;
+    private final LoadingCache<String, List<KeywordRankChangeDto>> rankChangeCache;
+
+    public KeywordRankSnapshot(RedisTemplate<String, String> redisTemplate,
+                               @Value("${product.keyword.snapshot-interval-ms:300000}") long snapshotIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.snapshotInterval = Duration.ofMillis(snapshotIntervalMs);
+        this.rankChangeCache = Caffeine.newBuilder()
+                .expireAfterWrite(snapshotInterval)
+                .build(key -> loadRankChanges());
+    }
+
+    public List<KeywordRankChangeDto> getRankChanges() {
+        return rankChangeCache.get(RANK_CHANGE_KEY);
+    }
+
+    /**
+     * 현재 인기 검색어를 새 스냅샷으로 저장하고 직전 스냅샷 대비 순위 변화를 계산한다.
+     * 여러 서버가 동시에 실행하지 않도록 주기의 절반 동안 잠금을 건다.
+     */
+    @Scheduled(fixedDelayString = "${product.keyword.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", snapshotInterval.dividedBy(2));
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            String previousKey = redisTemplate.opsForValue().get(LATEST_SNAPSHOT_KEY);
+            String currentKey = SNAPSHOT_KEY_PREFIX + System.currentTimeMillis();
+
+            // 단일 키 ZUNIONSTORE로 현재 순위를 복사, 다음 스냅샷에서 비교할 때까지만 유지
+            redisTemplate.opsForZSet().unionAndStore(POPULAR_KEYWORDS_KEY, List.of(), currentKey);
+            redisTemplate.expire(currentKey, snapshotInterval.multipliedBy(3));
+
+            Set<String> topKeywords = redisTemplate.opsForZSet().reverseRange(currentKey, 0, TOP_SIZE - 1);
+            List<String> keywords = topKeywords != null ? new ArrayList<>(topKeywords) : new ArrayList<>();
+
+            // 직전 스냅샷의 순위를 파이프라인 한 번으로 조회
+            List<Object> previousRanks = previousKey == null || keywords.isEmpty() ? List.of()
+                    : getPreviousRanks(previousKey, keywords);
+
+            List<String> entries = new ArrayList<>();
+            for (int i = 0; i < keywords.size(); i++) {
+                int currentRank = i + 1;
+                Object previous = i < previousRanks.size() ? previousRanks.get(i) : null;
+                int previousRank = previous instanceof Long rank ? rank.intValue() + 1 : currentRank;
+                entries.add(currentRank + SEPARATOR + previousRank + SEPARATOR + keywords.get(i));
+            }
+
+            // 임시 키에 만든 뒤 RENAME으로 교체하여 조회 중에 빈 목록이 보이지 않도록 함
+            if (entries.isEmpty()) {
+                redisTemplate.delete(RANK_CHANGE_KEY);
+            } else {
+                String tempKey = RANK_CHANGE_KEY + ":" + currentKey;
+                redisTemplate.opsForList().rightPushAll(tempKey, entries);
+                redisTemplate.rename(tempKey, RANK_CHANGE_KEY);
+            }
+            redisTemplate.opsForValue().set(LATEST_SNAPSHOT_KEY, currentKey);
+            rankChangeCache.invalidateAll();
+        } catch (RuntimeException e) {
+            log.warn("인기 검색어 스냅샷 생성 실패", e);
+        }
+    }
+
+    private List<Object> getPreviousRanks(String previousKey, List<String> keywords) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] key = serializer.serialize(previousKey);
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String keyword : keywords) {
+                connection.zSetCommands().zRevRank(key, serializer.serialize(keyword));
+            }
+            return null;
+        });
+    }
+
+    private List<KeywordRankChangeDto> loadRankChanges() {
+        List<String> entries = redisTemplate.opsForList().range(RANK_CHANGE_KEY, 0, -1);
+        List<KeywordRankChangeDto> rankChanges = new ArrayList<>();
+        if (entries == null) return rankChanges;
+
+        for (String entry : entries) {
+            String[] parts = entry.split("\\" + SEPARATOR, 3);
+            if (parts.length < 3) continue;
+            int currentRank = Integer.parseInt(parts[0]);
+            int previousRank = Integer.parseInt(parts[1]);
+            rankChanges.add(new KeywordRankChangeDto(parts[2], currentRank, previousRank, previousRank - currentRank));
+        }
+        return rankChanges;
+    }
+}
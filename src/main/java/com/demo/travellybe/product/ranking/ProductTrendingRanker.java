@@ -0,0 +1,73 @@
+package com.demo.travellybe.product.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간 단위 조회수 버킷으로 최근 인기 상품 순위를 만든다.
+ * 조회수는 popular_products:{yyyyMMddHH} 버킷에 쌓이고 집계 기간이 지나면 TTL로 사라진다.
+ * 주기적으로 집계 기간의 버킷을 오래된 것일수록 낮은 가중치로 ZUNIONSTORE 하여 popular_products:trending에 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductTrendingRanker {
+
+    public static final String TRENDING_KEY = "popular_products:trending";
+    private static final String BUCKET_KEY_PREFIX = "popular_products:";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 집계 기간 (예: 24시간, 168시간 = 7일)
+    @Value("${product.trending.window-hours:24}")
+    private int windowHours;
+
+    // 한 시간 전 버킷의 가중치 비율 (1.0이면 감쇠 없음)
+    @Value("${product.trending.decay:0.9}")
+    private double decay;
+
+    public String currentBucketKey() {
+        return bucketKey(LocalDateTime.now());
+    }
+
+    // 집계 기간이 끝날 때까지 남아 있도록 한 시간 여유를 둠
+    public Duration bucketTtl() {
+        return Duration.ofHours(windowHours + 1L);
+    }
+
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> bucketKeys = new ArrayList<>();
+        double[] weights = new double[windowHours];
+        for (int hoursAgo = 0; hoursAgo < windowHours; hoursAgo++) {
+            bucketKeys.add(bucketKey(now.minusHours(hoursAgo)));
+            weights[hoursAgo] = Math.pow(decay, hoursAgo);
+        }
+
+        try {
+            redisTemplate.opsForZSet().unionAndStore(bucketKeys.getFirst(), bucketKeys.subList(1, bucketKeys.size()),
+                    TRENDING_KEY, Aggregate.SUM, Weights.of(weights));
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 순위 갱신 실패", e);
+        }
+    }
+
+    private String bucketKey(LocalDateTime time) {
+        return BUCKET_KEY_PREFIX + time.truncatedTo(ChronoUnit.HOURS).format(BUCKET_FORMAT);
+    }
+}
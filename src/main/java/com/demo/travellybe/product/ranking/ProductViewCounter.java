@@ -0,0 +1,121 @@
+package com.demo.travellybe.product.ranking;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 조회수를 서버 메모리에 모았다가 주기적으로 Redis의 현재 시간 버킷에 한 번에 반영한다.
+ * 조회 요청마다 Redis를 호출하지 않으므로 조회수는 최대 flush 주기만큼 늦게 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCounter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductTrendingRanker productTrendingRanker;
+
+    // 상품 ID -> 아직 반영하지 않은 조회수. 항목은 제거하지 않고 flush 때 0으로 되돌림 (상품 수만큼만 증가)
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Executor flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-view-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${product.view.flush-threshold:10000}")
+    private long flushThreshold;
+
+    public void increment(Long productId) {
+        counts.computeIfAbsent(productId, key -> new LongAdder()).increment();
+        pending.increment();
+        // 임계치를 넘으면 주기를 기다리지 않고 flush (요청 스레드는 기다리지 않음)
+        if (pending.sum() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.view.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 진행 중인 flush가 끝나기를 기다린 뒤 남은 조회수를 모두 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 모인 조회수를 파이프라인 한 번으로 현재 시간 버킷(ProductTrendingRanker)에 더한다.
+     * Redis 반영에 실패하면 다음 flush에서 다시 시도하도록 조회수를 되돌려 놓는다.
+     */
+    public void flush() {
+        if (!flushLock.tryLock()) return;
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        Map<Long, Long> batch = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counts.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count > 0) batch.put(entry.getKey(), count);
+        }
+        if (batch.isEmpty()) return;
+        long total = batch.values().stream().mapToLong(Long::longValue).sum();
+        pending.add(-total);
+
+        try {
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+            byte[] key = serializer.serialize(productTrendingRanker.currentBucketKey());
+            long ttlSeconds = productTrendingRanker.bucketTtl().toSeconds();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                incrementAll(connection, key, batch, serializer);
+                connection.keyCommands().expire(key, ttlSeconds);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("상품 조회수 반영 실패, 다음 주기에 재시도: {}개 상품", batch.size(), e);
+            batch.forEach((productId, count) -> counts.computeIfAbsent(productId, id -> new LongAdder()).add(count));
+            pending.add(total);
+        }
+    }
+
+    private void incrementAll(RedisConnection connection, byte[] key, Map<Long, Long> batch, RedisSerializer<String> serializer) {
+        for (Map.Entry<Long, Long> entry : batch.entrySet()) {
+            connection.zSetCommands().zIncrBy(key, entry.getValue(), serializer.serialize(String.valueOf(entry.getKey())));
+        }
+    }
+}
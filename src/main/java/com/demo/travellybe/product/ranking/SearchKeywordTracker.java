@@ -0,0 +1,95 @@
+package com.demo.travellybe.product.ranking;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어 빈도를 Space-Saving 알고리즘으로 추적한다.
+ * 서버 메모리에는 최대 capacity개의 검색어만 두고(StreamSummary), 새 검색어가 들어오면 가장 적게 검색된 항목을 대체한다.
+ * 주기적으로 검색어별 확실한 횟수(추정 횟수 - 최대 오차)를 popular_keywords에 더하고, popular_keywords는 상위 max-size개만 남긴다.
+ */
+@Slf4j
+@Component
+public class SearchKeywordTracker {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSize;
+    private final StreamSummary counters;
+
+    // capacity는 상위 10개를 정확하게 유지하려면 그보다 충분히 커야 함
+    public SearchKeywordTracker(RedisTemplate<String, String> redisTemplate,
+                                @Value("${product.keyword.tracker-capacity:1000}") int capacity,
+                                @Value("${product.keyword.max-size:1000}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.counters = new StreamSummary(capacity);
+    }
+
+    /**
+     * 검색어를 공백, 대소문자, 유니코드(NFC) 기준으로 정규화한다.
+     * 정규화 결과가 비어 있으면 null을 반환한다.
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) return null;
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        normalized = WHITESPACE.matcher(normalized.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public void record(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized == null) return;
+
+        synchronized (counters) {
+            counters.offer(normalized);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.keyword.merge-interval-ms:10000}")
+    public void merge() {
+        Map<String, Long> batch;
+        synchronized (counters) {
+            batch = counters.drainGuaranteedCounts();
+        }
+        if (batch.isEmpty()) return;
+
+        try {
+            RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+            byte[] key = serializer.serialize(KeywordRankSnapshot.POPULAR_KEYWORDS_KEY);
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(batch.entrySet());
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, Long> entry : entries) {
+                    connection.zSetCommands().zIncrBy(key, entry.getValue(), serializer.serialize(entry.getKey()));
+                }
+                // 점수가 낮은 검색어를 제거하여 상위 maxSize개만 유지
+                connection.zSetCommands().zRemRange(key, 0, -(maxSize + 1L));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("인기 검색어 반영 실패, 다음 주기에 재시도: {}개 검색어", batch.size(), e);
+            synchronized (counters) {
+                batch.forEach(counters::add);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void mergeOnShutdown() {
+        merge();
+    }
+}
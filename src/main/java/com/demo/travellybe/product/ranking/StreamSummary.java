@@ -0,0 +1,139 @@
+package com.demo.travellybe.product.ranking;
+
+import java.util.*;
+
+/**
+ * Space-Saving 알고리즘의 Stream-Summary 구조. 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ * 같은 횟수의 항목을 한 버킷에 모으고 버킷을 횟수 순서의 연결 리스트로 유지하므로,
+ * 1 증가와 가장 적게 나온 항목의 대체가 항목 수와 관계없이 상수 시간이다.
+ */
+public class StreamSummary {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    // 횟수가 가장 적은 버킷
+    private Bucket head;
+
+    public StreamSummary(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // 항목을 1 세고, 꽉 찼으면 가장 적게 나온 항목을 대체 (새 항목의 오차는 대체된 항목의 횟수)
+    public void offer(String item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            increment(counter, 1);
+            return;
+        }
+        if (counters.size() < capacity) {
+            insert(new Counter(item, 0), 1);
+            return;
+        }
+
+        Counter min = head.counters.iterator().next();
+        counters.remove(min.item);
+        detach(min);
+        insert(new Counter(item, min.count), min.count + 1);
+    }
+
+    // 이미 있거나 자리가 남은 경우에만 count만큼 더함 (다른 항목을 대체하지 않음)
+    public void add(String item, long count) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            increment(counter, count);
+        } else if (counters.size() < capacity) {
+            insert(new Counter(item, 0), count);
+        }
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 항목별 확실한 횟수(추정 횟수 - 최대 오차)를 반환하고 비운다.
+     * 확실한 횟수가 0 이하인 항목은 포함하지 않는다.
+     */
+    public Map<String, Long> drainGuaranteedCounts() {
+        Map<String, Long> guaranteed = new HashMap<>();
+        counters.forEach((item, counter) -> {
+            long count = counter.count - counter.error;
+            if (count > 0) guaranteed.put(item, count);
+        });
+        counters.clear();
+        head = null;
+        return guaranteed;
+    }
+
+    private void insert(Counter counter, long count) {
+        counters.put(counter.item, counter);
+        counter.count = count;
+        attach(counter, null);
+    }
+
+    private void increment(Counter counter, long delta) {
+        Bucket from = counter.bucket;
+        counter.count += delta;
+        detach(counter);
+        // 비워진 버킷이 제거되었으면 이전 버킷부터 찾음
+        attach(counter, from.counters.isEmpty() ? from.prev : from);
+    }
+
+    // after 다음부터 (null이면 처음부터) 같은 횟수의 버킷을 찾아 넣고, 없으면 버킷을 만듦
+    private void attach(Counter counter, Bucket after) {
+        Bucket prev = after;
+        Bucket next = after != null ? after.next : head;
+        while (next != null && next.count < counter.count) {
+            prev = next;
+            next = next.next;
+        }
+
+        Bucket bucket = next;
+        if (bucket == null || bucket.count != counter.count) {
+            bucket = new Bucket(counter.count);
+            bucket.prev = prev;
+            bucket.next = next;
+            if (prev != null) prev.next = bucket;
+            else head = bucket;
+            if (next != null) next.prev = bucket;
+        }
+        bucket.counters.add(counter);
+        counter.bucket = bucket;
+    }
+
+    private void detach(Counter counter) {
+        Bucket bucket = counter.bucket;
+        bucket.counters.remove(counter);
+        counter.bucket = null;
+        if (!bucket.counters.isEmpty()) return;
+
+        if (bucket.prev != null) bucket.prev.next = bucket.next;
+        else head = bucket.next;
+        if (bucket.next != null) bucket.next.prev = bucket.prev;
+    }
+
+    private static class Counter {
+        private final String item;
+        // 최대 오차 (대체될 때 이전 항목의 횟수)
+        private final long error;
+        // 추정 횟수
+        private long count;
+        private Bucket bucket;
+
+        private Counter(String item, long error) {
+            this.item = item;
+            this.error = error;
+        }
+    }
+
+    private static class Bucket {
+        private final long count;
+        private final Set<Counter> counters = new LinkedHashSet<>();
+        private Bucket prev;
+        private Bucket next;
+
+        private Bucket(long count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.demo.travellybe.product.ranking;
+
+import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.dto.response.ProductsResponseDto;
+import com.demo.travellybe.product.repository.ProductRepository;
+import com.demo.travellybe.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면 인기 상품 목록을 미리 만들어 서버 메모리에 둔다.
+ * 인기 상품 순위가 갱신되는 주기와 상품 삭제 시 다시 만들며, 조회 시에는 DB와 Redis를 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopProductsMaterializer {
+
+    private static final int TOP_SIZE = 10;
+    // 삭제된 상품을 제외하고도 TOP_SIZE개를 채울 수 있도록 여유 있게 조회
+    private static final int CANDIDATE_SIZE = 20;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+
+    private final Executor refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "top-products-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile List<ProductsResponseDto> topProducts = List.of();
+
+    public List<ProductsResponseDto> getTopProducts() {
+        return topProducts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            Set<String> topProductIds = redisTemplate.opsForZSet()
+                    .reverseRange(ProductTrendingRanker.TRENDING_KEY, 0, CANDIDATE_SIZE - 1);
+            if (topProductIds == null || topProductIds.isEmpty()) {
+                topProducts = List.of();
+                return;
+            }
+
+            List<Long> productIds = topProductIds.stream().map(Long::parseLong).toList();
+            Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            // 순위를 유지하면서 삭제된 상품은 제외 (조회수 버킷에 남은 ID는 집계 기간이 지나면 사라짐)
+            List<Product> products = productIds.stream()
+                    .map(productMap::get)
+                    .filter(Objects::nonNull)
+                    .limit(TOP_SIZE)
+                    .toList();
+
+            Map<Long, Long> reviewCounts = reviewRepository.countByProductIds(products.stream().map(Product::getId).toList());
+            topProducts = List.copyOf(productRepository.findProductCards(products, reviewCounts));
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 목록 갱신 실패, 기존 목록 유지", e);
+        }
+    }
+
+    // 삭제된 상품이 바로 빠지도록 커밋 이후 다시 만듦
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshExecutor.execute(this::refresh);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshExecutor.execute(TopProductsMaterializer.this::refresh);
+            }
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.travellybe.product.repository;
+
+import com.demo.travellybe.product.domain.ProductCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public interface ProductCapacityRepository extends JpaRepository<ProductCapacity, Long> {
+
+    List<ProductCapacity> findByProductIdAndDateBetween(Long productId, LocalDate startDate, LocalDate endDate);
+
+    // 날짜/시간 행이 없으면 만든다 (이미 있으면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_capacity (product_id, date, start_time, reserved) " +
+            "VALUES (:productId, :date, :startTime, 0)", nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId,
+                       @Param("date") LocalDate date,
+                       @Param("startTime") LocalTime startTime);
+
+    // 정원(Product.quantity)을 넘지 않을 때만 원자적으로 예약 수량 증가, 증가하지 않으면 0 반환
+    // 날짜/시간별 행만 잠그므로 다른 날짜의 예약과 경합하지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductCapacity c SET c.reserved = c.reserved + :quantity " +
+            "WHERE c.product.id = :productId AND c.date = :date AND c.startTime = :startTime " +
+            "AND c.reserved + :quantity <= (SELECT p.quantity FROM Product p WHERE p.id = :productId)")
+    int reserve(@Param("productId") Long productId,
+                @Param("date") LocalDate date,
+                @Param("startTime") LocalTime startTime,
+                @Param("quantity") int quantity);
+
+    // 예약 수량을 예약 테이블에서 다시 계산하기 전에 모두 0으로 (날짜/시간별 수량 도입 시 보정용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE product_capacity SET reserved = 0", nativeQuery = true)
+    int resetReserved();
+
+    // 거절, 취소되지 않은 예약의 수량을 날짜/시간별로 합쳐 채움 (시간을 지정하지 않은 예약은 allDay 행)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO product_capacity (product_id, date, start_time, reserved) " +
+            "SELECT r.product_id, r.date, COALESCE(r.start_time, :allDay), SUM(r.total_ticket_count) FROM reservation r " +
+            "WHERE r.status NOT IN ('REJECTED', 'CANCELED') " +
+            "GROUP BY r.product_id, r.date, COALESCE(r.start_time, :allDay) " +
+            "ON DUPLICATE KEY UPDATE reserved = VALUES(reserved)", nativeQuery = true)
+    int fillReservedFromReservations(@Param("allDay") LocalTime allDay);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductCapacity c SET c.reserved = c.reserved - :quantity " +
+            "WHERE c.product.id = :productId AND c.date = :date AND c.startTime = :startTime " +
+            "AND c.reserved >= :quantity")
+    int release(@Param("productId") Long productId,
+                @Param("date") LocalDate date,
+                @Param("startTime") LocalTime startTime,
+                @Param("quantity") int quantity);
+}
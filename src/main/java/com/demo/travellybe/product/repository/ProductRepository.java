@@ -1,7 +1,9 @@
 package com.demo.travellybe.product.repository;
 
 import com.demo.travellybe.product.domain.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +19,53 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
 
     List<Product> findByIdIn(List<Long> productIds);
     List<Product> findAllByMemberId(Long memberId);
+
+    @Query("SELECT p.id AS productId, p.member.id AS sellerId FROM Product p WHERE p.id IN :productIds")
+    List<ProductSeller> findSellersByIdIn(@Param("productIds") List<Long> productIds);
+
+    // 키셋 페이지네이션으로 lastId 다음 상품 ID부터 조회
+    @Query("SELECT p.id FROM Product p WHERE p.id > :lastId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 상품을 가진 판매자 ID를 lastId 다음부터 조회
+    @Query("SELECT DISTINCT p.member.id FROM Product p WHERE p.member.id > :lastId ORDER BY p.member.id")
+    List<Long> findSellerIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 리뷰 개수, 평점 합계, 평균 평점을 원자적으로 갱신
+    // rating은 갱신 전 reviewCount, ratingSum으로 계산해야 하므로 가장 먼저 SET
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET " +
+            "p.rating = CASE WHEN p.reviewCount + :countDelta > 0 " +
+            "THEN (p.ratingSum + :ratingDelta) * 1.0 / (p.reviewCount + :countDelta) ELSE 0.0 END, " +
+            "p.reviewCount = p.reviewCount + :countDelta, " +
+            "p.ratingSum = p.ratingSum + :ratingDelta " +
+            "WHERE p.id = :productId")
+    int updateReviewStats(@Param("productId") Long productId,
+                          @Param("countDelta") int countDelta,
+                          @Param("ratingDelta") long ratingDelta);
+
+    // 보정하는 동안 리뷰 통계가 바뀌지 않도록 상품 행을 잠금
+    @Query(value = "SELECT product_id FROM product WHERE product_id IN (:productIds) ORDER BY product_id FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockByIdIn(@Param("productIds") List<Long> productIds);
+
+    // 리뷰 테이블에서 리뷰 개수, 평점 합계, 평균 평점을 다시 계산 (리뷰 통계 컬럼 추가 전 상품 보정용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE product p LEFT JOIN (" +
+            "SELECT r.product_id, COUNT(*) AS review_count, SUM(r.rating) AS rating_sum FROM review r " +
+            "WHERE r.product_id IN (:productIds) GROUP BY r.product_id) s ON s.product_id = p.product_id " +
+            "SET p.review_count = COALESCE(s.review_count, 0), " +
+            "p.rating_sum = COALESCE(s.rating_sum, 0), " +
+            "p.rating = COALESCE(s.rating_sum / s.review_count, 0) " +
+            "WHERE p.product_id IN (:productIds)", nativeQuery = true)
+    int recomputeReviewStats(@Param("productIds") List<Long> productIds);
+
+    // quantity가 남은 재고였을 때 예약마다 차감된 수량을 되돌려 원래 정원으로 복원 (날짜/시간별 수량 도입 시 보정용)
+    // 거절, 취소된 예약은 이미 되돌려졌으므로 제외
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE product p JOIN (" +
+            "SELECT r.product_id, SUM(r.total_ticket_count) AS sold FROM reservation r " +
+            "WHERE r.status NOT IN ('REJECTED', 'CANCELED') GROUP BY r.product_id) s ON s.product_id = p.product_id " +
+            "SET p.quantity = p.quantity + s.sold", nativeQuery = true)
+    int restoreQuantityFromReservations();
 }
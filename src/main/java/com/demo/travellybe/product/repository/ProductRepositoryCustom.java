@@ -1,10 +1,28 @@
 package com.demo.travellybe.product.repository;
 
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.Ticket;
+import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
+import com.demo.travellybe.product.dto.response.ProductsResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
 
 public interface ProductRepositoryCustom {
     Page<Product> getSearchedProducts(ProductsSearchRequestDto requestDto, Pageable pageable);
+
+    Slice<Product> getSearchedProductsByCursor(ProductsSearchRequestDto requestDto);
+
+    List<ProductsResponseDto> findProductCards(List<Product> products, Map<Long, Integer> reviewCounts);
+
+    Map<Long, List<ProductImageDto>> findImagesByProductIds(List<Long> productIds);
+
+    Map<Long, List<OperationDayDto>> findOperationSchedulesByProductIds(List<Long> productIds);
+
+    Map<Long, List<Ticket>> findTicketsByProductIds(List<Long> productIds);
 }
\ No newline at end of file
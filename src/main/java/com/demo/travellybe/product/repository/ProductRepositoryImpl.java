@@ -1,46 +1,71 @@
 package com.demo.travellybe.product.repository;
 
+import com.demo.travellybe.product.domain.OperationRule;
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.Ticket;
+import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.dto.ProductCursor;
+import com.demo.travellybe.product.dto.ProductImageDto;
+import com.demo.travellybe.product.dto.TicketDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
+import com.demo.travellybe.product.dto.response.ProductsResponseDto;
+import com.demo.travellybe.product.search.ProductAvailabilityIndex;
+import com.demo.travellybe.product.search.ProductSearchIndex;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+import static com.demo.travellybe.member.domain.QMember.member;
+import static com.demo.travellybe.product.domain.QOperationDay.operationDay;
+import static com.demo.travellybe.product.domain.QOperationHour.operationHour;
+import static com.demo.travellybe.product.domain.QOperationRule.operationRule;
 import static com.demo.travellybe.product.domain.QProduct.product;
+import static com.demo.travellybe.product.domain.QProductImage.productImage;
+import static com.demo.travellybe.product.domain.QTicket.ticket;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
+    // 무한 스크롤 한 번에 조회할 수 있는 최대 상품 수
+    private static final int MAX_SCROLL_SIZE = 50;
+
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAvailabilityIndex productAvailabilityIndex;
 
     @Override
     public Page<Product> getSearchedProducts(ProductsSearchRequestDto requestDto, Pageable pageable) {
         JPAQuery<Product> query = queryFactory
                 .selectFrom(product)
-                .where(eqCityCode(requestDto.getCityCode()),
-                        eqContentType(requestDto.getContentType()),
-                        containsKeyword(requestDto.getKeyword()),
-                        minPrice(requestDto.getMinPrice()),
-                        maxPrice(requestDto.getMaxPrice()),
-                        betweenDate(requestDto.getStartDate(), requestDto.getEndDate()),
-                        betweenTime(requestDto.getStartTime(), requestDto.getEndTime()))
+                .where(searchConditions(requestDto))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize());
         for (OrderSpecifier<?> orderSpecifier : getOrderSpecifiers(pageable.getSort())) {
@@ -51,6 +76,175 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         return new PageImpl<>(results.getResults(), pageable, results.getTotal());
     }
 
+    @Override
+    public Slice<Product> getSearchedProductsByCursor(ProductsSearchRequestDto requestDto) {
+        String sort = requestDto.resolveSort();
+        int size = Math.clamp(requestDto.getSize(), 1, MAX_SCROLL_SIZE);
+        ProductCursor cursor = requestDto.getCursor() != null ? ProductCursor.decode(requestDto.getCursor(), sort) : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회 (count 쿼리 없음)
+        List<Product> products = queryFactory
+                .selectFrom(product)
+                .where(searchConditions(requestDto))
+                .where(afterCursor(sort, cursor))
+                .orderBy(getCursorOrderSpecifiers(sort))
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = products.size() > size;
+        if (hasNext) products = products.subList(0, size);
+        return new SliceImpl<>(products, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public List<ProductsResponseDto> findProductCards(List<Product> products, Map<Long, Integer> reviewCounts) {
+        if (products.isEmpty()) return new ArrayList<>();
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+
+        // 이미지, 티켓, 판매자 이름을 상품 수와 관계없이 각각 한 번의 쿼리로 조회
+        Map<Long, List<ProductImageDto>> images = findImagesByProductIds(productIds);
+
+        Map<Long, List<TicketDto>> tickets = queryFactory
+                .select(ticket.product.id, ticket.name, ticket.price)
+                .from(ticket)
+                .where(ticket.product.id.in(productIds))
+                .orderBy(ticket.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(ticket.product.id),
+                        Collectors.mapping(tuple -> TicketDto.builder()
+                                .name(tuple.get(ticket.name))
+                                .price(tuple.get(ticket.price))
+                                .build(), Collectors.toList())));
+
+        Map<Long, String> sellerNames = queryFactory
+                .select(product.id, member.nickname)
+                .from(product)
+                .join(product.member, member)
+                .where(product.id.in(productIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(product.id), tuple -> tuple.get(member.nickname)));
+
+        return products.stream()
+                .map(p -> new ProductsResponseDto(p,
+                        sellerNames.get(p.getId()),
+                        images.getOrDefault(p.getId(), new ArrayList<>()),
+                        tickets.getOrDefault(p.getId(), new ArrayList<>()),
+                        reviewCounts.getOrDefault(p.getId(), 0)))
+                .toList();
+    }
+
+    @Override
+    public Map<Long, List<ProductImageDto>> findImagesByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) return new HashMap<>();
+        return queryFactory
+                .select(productImage.product.id, productImage.url, productImage.imageOrder)
+                .from(productImage)
+                .where(productImage.product.id.in(productIds))
+                .orderBy(productImage.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(productImage.product.id),
+                        Collectors.mapping(tuple -> ProductImageDto.builder()
+                                .url(tuple.get(productImage.url))
+                                .order(tuple.get(productImage.imageOrder))
+                                .build(), Collectors.toList())));
+    }
+
+    @Override
+    public Map<Long, List<Ticket>> findTicketsByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) return new HashMap<>();
+        return queryFactory
+                .selectFrom(ticket)
+                .where(ticket.product.id.in(productIds))
+                .orderBy(ticket.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(t -> t.getProduct().getId()));
+    }
+
+    // 운영일(운영 시간 포함), 운영 규칙(제외 날짜 포함)을 상품 수와 관계없이 각각 한 번의 쿼리로 조회하여 운영 일정으로 합침
+    @Override
+    public Map<Long, List<OperationDayDto>> findOperationSchedulesByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) return new HashMap<>();
+
+        Map<Long, TreeMap<LocalDate, List<OperationDayHourDto>>> schedules = new HashMap<>();
+        for (Tuple row : queryFactory
+                .select(operationDay.product.id, operationDay.date, operationHour.startTime, operationHour.endTime)
+                .from(operationDay)
+                .leftJoin(operationDay.operationHours, operationHour)
+                .where(operationDay.product.id.in(productIds))
+                .orderBy(operationDay.id.asc(), operationHour.id.asc())
+                .fetch()) {
+            List<OperationDayHourDto> hours = schedules
+                    .computeIfAbsent(row.get(operationDay.product.id), key -> new TreeMap<>())
+                    .computeIfAbsent(row.get(operationDay.date), key -> new ArrayList<>());
+            if (row.get(operationHour.startTime) != null) {
+                hours.add(OperationDayHourDto.builder()
+                        .startTime(row.get(operationHour.startTime))
+                        .endTime(row.get(operationHour.endTime))
+                        .build());
+            }
+        }
+
+        Map<Long, List<OperationRule>> rules = queryFactory
+                .selectFrom(operationRule)
+                .distinct()
+                .leftJoin(operationRule.excludedDates).fetchJoin()
+                .where(operationRule.product.id.in(productIds))
+                .orderBy(operationRule.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(rule -> rule.getProduct().getId()));
+
+        Map<Long, List<OperationDayDto>> result = new HashMap<>();
+        for (Long productId : productIds) {
+            result.put(productId, Product.toOperationSchedule(
+                    schedules.getOrDefault(productId, new TreeMap<>()), rules.getOrDefault(productId, List.of())));
+        }
+        return result;
+    }
+
+    private BooleanExpression[] searchConditions(ProductsSearchRequestDto requestDto) {
+        return new BooleanExpression[]{
+                eqCityCode(requestDto.getCityCode()),
+                eqContentType(requestDto.getContentType()),
+                containsKeyword(requestDto.getKeyword()),
+                minPrice(requestDto.getMinPrice()),
+                maxPrice(requestDto.getMaxPrice()),
+                availability(requestDto.getStartDate(), requestDto.getEndDate(),
+                        requestDto.getStartTime(), requestDto.getEndTime())
+        };
+    }
+
+    // 정렬 값이 같은 상품은 상품 ID로 순서를 고정
+    private OrderSpecifier<?>[] getCursorOrderSpecifiers(String sort) {
+        return switch (sort) {
+            case "LowestPrice" -> new OrderSpecifier<?>[]{product.minPrice.asc(), product.id.asc()};
+            case "HighestRating" -> new OrderSpecifier<?>[]{product.rating.desc(), product.id.desc()};
+            case "MostReviews" -> new OrderSpecifier<?>[]{product.reviewCount.desc(), product.id.desc()};
+            default -> new OrderSpecifier<?>[]{product.createdDate.desc(), product.id.desc()};
+        };
+    }
+
+    private BooleanExpression afterCursor(String sort, ProductCursor cursor) {
+        if (cursor == null) return null;
+        Long lastId = cursor.getProductId();
+        return switch (sort) {
+            case "LowestPrice" -> product.minPrice.gt(cursor.getIntValue())
+                    .or(product.minPrice.eq(cursor.getIntValue()).and(product.id.gt(lastId)));
+            case "HighestRating" -> product.rating.lt(cursor.getDoubleValue())
+                    .or(product.rating.eq(cursor.getDoubleValue()).and(product.id.lt(lastId)));
+            case "MostReviews" -> product.reviewCount.lt(cursor.getIntValue())
+                    .or(product.reviewCount.eq(cursor.getIntValue()).and(product.id.lt(lastId)));
+            default -> product.createdDate.lt(cursor.getDateTimeValue())
+                    .or(product.createdDate.eq(cursor.getDateTimeValue()).and(product.id.lt(lastId)));
+        };
+    }
+
     private List<OrderSpecifier<?>> getOrderSpecifiers(Sort sort) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         for (Sort.Order order : sort) {
@@ -76,9 +270,14 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
     private BooleanExpression containsKeyword(String keyword) {
         if (!StringUtils.hasText(keyword)) return null;
-        return product.name.contains(keyword)
+        BooleanExpression contains = product.name.contains(keyword)
                 .or(product.description.contains(keyword))
                 .or(product.address.contains(keyword));
+
+        // 검색 색인에서 후보 상품을 먼저 찾고, LIKE는 후보 상품에 대해서만 확인
+        return productSearchIndex.search(keyword)
+                .map(candidateIds -> product.id.in(candidateIds).and(contains))
+                .orElse(contains);
     }
 
     private BooleanExpression minPrice(Integer minPrice) {
@@ -91,9 +290,58 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         return product.maxPrice.loe(maxPrice);
     }
 
+    private BooleanExpression availability(LocalDate startDate, LocalDate endDate, String startTime, String endTime) {
+        LocalTime st = startTime != null && endTime != null ? LocalTime.parse(startTime) : null;
+        LocalTime et = startTime != null && endTime != null ? LocalTime.parse(endTime) : null;
+
+        // 운영 일정 색인에서 날짜, 시간 조건을 만족하는 상품을 찾고, 색인을 쓸 수 없으면 EXISTS 조건 사용
+        return productAvailabilityIndex.search(startDate, endDate, st, et)
+                .map(productIds -> product.id.in(productIds))
+                .orElseGet(() -> {
+                    BooleanExpression date = betweenDate(startDate, endDate);
+                    BooleanExpression time = betweenTime(startTime, endTime);
+                    if (date == null) return time;
+                    return time == null ? date : date.and(time);
+                });
+    }
+
+    /**
+     * 운영일 또는 운영 규칙으로 startDate ~ endDate 사이에 운영하는 상품.
+     * 운영 규칙은 기간이 검색 기간 안에 모두 들어가면(등록 시 운영일이 하루 이상인지 확인) 운영하는 것으로 보고,
+     * 검색 기간의 경계에 걸친 규칙은 경계의 첫 주, 마지막 주 날짜마다 요일과 제외 날짜를 확인한다.
+     */
     private BooleanExpression betweenDate(LocalDate startDate, LocalDate endDate) {
         if (startDate == null || endDate == null) return null;
-        return product.operationDays.any().date.between(startDate, endDate);
+        BooleanExpression operating = operationRule.startDate.goe(startDate).and(operationRule.endDate.loe(endDate));
+        for (LocalDate date : boundaryDates(startDate, endDate)) {
+            operating = operating.or(ruleOperatingOn(date));
+        }
+        return product.operationDays.any().date.between(startDate, endDate)
+                .or(JPAExpressions.selectOne()
+                        .from(operationRule)
+                        .where(operationRule.product.eq(product),
+                                operationRule.startDate.loe(endDate),
+                                operationRule.endDate.goe(startDate),
+                                operating)
+                        .exists());
+    }
+
+    // 검색 기간의 첫 주와 마지막 주 날짜 (기간이 2주보다 짧으면 모든 날짜)
+    private List<LocalDate> boundaryDates(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) return List.of();
+        if (ChronoUnit.DAYS.between(startDate, endDate) < 14) return startDate.datesUntil(endDate.plusDays(1)).toList();
+        List<LocalDate> dates = new ArrayList<>(startDate.datesUntil(startDate.plusDays(7)).toList());
+        dates.addAll(endDate.minusDays(6).datesUntil(endDate.plusDays(1)).toList());
+        return dates;
+    }
+
+    // OperationRule.isOperatingOn과 같은 조건 (요일 비트는 mod로 확인)
+    private BooleanExpression ruleOperatingOn(LocalDate date) {
+        int bit = OperationRule.bit(date.getDayOfWeek());
+        return operationRule.startDate.loe(date)
+                .and(operationRule.endDate.goe(date))
+                .and(operationRule.daysOfWeek.mod(bit * 2).goe(bit))
+                .and(operationRule.excludedDates.contains(date).not());
     }
 
     private BooleanExpression betweenTime(String startTime, String endTime) {
@@ -101,6 +349,10 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         LocalTime st = LocalTime.parse(startTime);
         LocalTime et = LocalTime.parse(endTime);
         return product.operationDays.any().operationHours.any().startTime.goe(st)
-                .and(product.operationDays.any().operationHours.any().endTime.loe(et));
+                .or(JPAExpressions.selectOne().from(operationRule)
+                        .where(operationRule.product.eq(product), operationRule.startTime.goe(st)).exists())
+                .and(product.operationDays.any().operationHours.any().endTime.loe(et)
+                        .or(JPAExpressions.selectOne().from(operationRule)
+                                .where(operationRule.product.eq(product), operationRule.endTime.loe(et)).exists()));
     }
 }
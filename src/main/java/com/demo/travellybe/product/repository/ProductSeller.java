@@ -0,0 +1,7 @@
+package com.demo.travellybe.product.repository;
+
+// 상품 ID와 판매자 ID
+public interface ProductSeller {
+    Long getProductId();
+    Long getSellerId();
+}
@@ -0,0 +1,142 @@
+package com.demo.travellybe.product.search;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 글자 단위 1-gram, 2-gram 역색인. 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ * n-gram은 문자열 대신 long 값(1-gram은 글자, 2-gram은 두 글자와 구분 비트)으로 저장하고,
+ * 문서별 n-gram 목록은 정렬된 long 배열로만 보관해 색인 메모리를 줄인다.
+ * n-gram이 maxGramsPerDocument보다 많은 문서(긴 설명)는 색인하지 않고 모든 검색의 후보에 포함한다.
+ */
+public class NGramIndex {
+
+    private static final long BIGRAM = 1L << 32;
+    private static final long[] NO_GRAMS = new long[0];
+
+    private final int maxGramsPerDocument;
+
+    // n-gram -> 문서 ID 목록
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    // 문서 ID -> 정렬된 n-gram 목록 (수정, 삭제 시 기존 색인 제거용)
+    private final Map<Long, long[]> documentGrams = new HashMap<>();
+    // n-gram이 너무 많아 색인하지 않은 문서
+    private final Set<Long> unindexed = new HashSet<>();
+
+    public NGramIndex(int maxGramsPerDocument) {
+        this.maxGramsPerDocument = maxGramsPerDocument;
+    }
+
+    public void index(Long documentId, String... values) {
+        remove(documentId);
+
+        Set<Long> grams = new HashSet<>();
+        for (String value : values) {
+            if (!addGrams(grams, value)) {
+                unindexed.add(documentId);
+                return;
+            }
+        }
+
+        long[] sorted = grams.stream().mapToLong(Long::longValue).sorted().toArray();
+        documentGrams.put(documentId, sorted);
+        for (long gram : sorted) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(documentId);
+        }
+    }
+
+    public void remove(Long documentId) {
+        if (unindexed.remove(documentId)) return;
+        long[] grams = documentGrams.remove(documentId);
+        if (grams == null) return;
+        for (long gram : grams) {
+            Set<Long> documentIds = postings.get(gram);
+            if (documentIds == null) continue;
+            documentIds.remove(documentId);
+            if (documentIds.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    public boolean contains(Long documentId) {
+        return documentGrams.containsKey(documentId) || unindexed.contains(documentId);
+    }
+
+    // 색인된 문서 ID (색인하지 않은 문서 포함)
+    public Set<Long> documentIds() {
+        Set<Long> documentIds = new HashSet<>(documentGrams.keySet());
+        documentIds.addAll(unindexed);
+        return documentIds;
+    }
+
+    public int size() {
+        return documentGrams.size() + unindexed.size();
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 문서 ID 후보를 반환한다.
+     * 키워드에서 n-gram을 만들 수 없거나 후보가 maxCandidates보다 많으면 빈 Optional을 반환한다.
+     */
+    public Optional<Set<Long>> search(String keyword, int maxCandidates) {
+        long[] grams = keywordGrams(normalize(keyword));
+        if (grams.length == 0 || unindexed.size() > maxCandidates) return Optional.empty();
+
+        List<Set<Long>> candidates = new ArrayList<>();
+        for (long gram : grams) {
+            Set<Long> documentIds = postings.get(gram);
+            if (documentIds == null) {
+                candidates.clear();
+                break;
+            }
+            candidates.add(documentIds);
+        }
+
+        Set<Long> result = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            // 가장 작은 목록부터 교집합
+            candidates.sort(Comparator.comparingInt(Set::size));
+            result.addAll(candidates.get(0));
+            for (int i = 1; i < candidates.size() && !result.isEmpty(); i++) {
+                result.retainAll(candidates.get(i));
+            }
+        }
+        result.addAll(unindexed);
+        if (result.size() > maxCandidates) return Optional.empty();
+        return Optional.of(result);
+    }
+
+    // n-gram 수가 제한을 넘으면 false
+    private boolean addGrams(Set<Long> grams, String value) {
+        if (value == null) return true;
+        String text = normalize(value);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) grams.add(unigram(c));
+            if (i + 1 < text.length()) grams.add(bigram(c, text.charAt(i + 1)));
+            if (grams.size() > maxGramsPerDocument) return false;
+        }
+        return true;
+    }
+
+    private static long[] keywordGrams(String text) {
+        if (text.isEmpty()) return NO_GRAMS;
+        if (text.length() == 1) return new long[]{unigram(text.charAt(0))};
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(bigram(text.charAt(i), text.charAt(i + 1)));
+        }
+        return grams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long unigram(char c) {
+        return c;
+    }
+
+    private static long bigram(char first, char second) {
+        return BIGRAM | ((long) first << 16) | second;
+    }
+
+    // MySQL 기본 collation이 대소문자를 구분하지 않으므로 소문자로 통일
+    private static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
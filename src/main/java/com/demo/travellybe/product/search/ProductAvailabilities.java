@@ -0,0 +1,90 @@
+package com.demo.travellybe.product.search;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 상품별 운영 일정(ProductAvailability)과 검색용 보조 색인. 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ * 날짜 검색은 운영일이 속한 구간(BUCKET_DAYS일 단위)별 상품 목록에서, 시간 검색은 가장 늦은 시작 시간 순서의 상품 목록에서
+ * 후보를 찾으므로 전체 상품을 훑지 않는다.
+ */
+public class ProductAvailabilities {
+
+    static final int BUCKET_DAYS = 14;
+
+    private final Map<Long, ProductAvailability> availabilities = new HashMap<>();
+    // 날짜 구간 번호 -> 그 구간에 운영일이 있는 상품 ID
+    private final TreeMap<Long, Set<Long>> dayBuckets = new TreeMap<>();
+    // 가장 늦은 운영 시간 시작(초) -> 상품 ID
+    private final TreeMap<Integer, Set<Long>> latestStarts = new TreeMap<>();
+
+    public void put(Long productId, ProductAvailability availability) {
+        remove(productId);
+        availabilities.put(productId, availability);
+        for (long bucket : availability.dayBuckets(BUCKET_DAYS)) {
+            dayBuckets.computeIfAbsent(bucket, key -> new HashSet<>()).add(productId);
+        }
+        if (availability.hasTime()) {
+            latestStarts.computeIfAbsent(availability.getLatestStartSecond(), key -> new HashSet<>()).add(productId);
+        }
+    }
+
+    public void remove(Long productId) {
+        ProductAvailability availability = availabilities.remove(productId);
+        if (availability == null) return;
+        for (long bucket : availability.dayBuckets(BUCKET_DAYS)) {
+            removeFrom(dayBuckets, bucket, productId);
+        }
+        if (availability.hasTime()) removeFrom(latestStarts, availability.getLatestStartSecond(), productId);
+    }
+
+    public Set<Long> productIds() {
+        return new HashSet<>(availabilities.keySet());
+    }
+
+    /**
+     * 날짜, 시간 조건을 모두 만족하는 상품 ID를 반환한다. null인 조건은 확인하지 않는다.
+     * 조건이 없거나 일치하는 상품이 maxCandidates보다 많으면 빈 Optional을 반환한다.
+     */
+    public Optional<Set<Long>> search(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+                                      int maxCandidates) {
+        boolean filterDate = startDate != null && endDate != null;
+        boolean filterTime = startTime != null && endTime != null;
+        if (!filterDate && !filterTime) return Optional.empty();
+
+        Set<Long> result = new HashSet<>();
+        if (filterDate) {
+            if (startDate.isAfter(endDate)) return Optional.of(result);
+            long from = Math.floorDiv(startDate.toEpochDay(), BUCKET_DAYS);
+            long to = Math.floorDiv(endDate.toEpochDay(), BUCKET_DAYS);
+            for (Set<Long> productIds : dayBuckets.subMap(from, true, to, true).values()) {
+                for (Long productId : productIds) {
+                    if (result.contains(productId)) continue;
+                    ProductAvailability availability = availabilities.get(productId);
+                    if (!availability.hasDateBetween(startDate, endDate)) continue;
+                    if (filterTime && !availability.hasTimeBetween(startTime, endTime)) continue;
+                    result.add(productId);
+                    if (result.size() > maxCandidates) return Optional.empty();
+                }
+            }
+            return Optional.of(result);
+        }
+
+        for (Set<Long> productIds : latestStarts.tailMap(startTime.toSecondOfDay(), true).values()) {
+            for (Long productId : productIds) {
+                if (!availabilities.get(productId).hasTimeBetween(startTime, endTime)) continue;
+                result.add(productId);
+                if (result.size() > maxCandidates) return Optional.empty();
+            }
+        }
+        return Optional.of(result);
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Long>> postings, K key, Long productId) {
+        Set<Long> productIds = postings.get(key);
+        if (productIds == null) return;
+        productIds.remove(productId);
+        if (productIds.isEmpty()) postings.remove(key);
+    }
+}
@@ -0,0 +1,71 @@
+package com.demo.travellybe.product.search;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 상품 하나의 운영 일정 요약.
+ * 운영 날짜는 첫 운영일 기준 비트셋으로, 운영 시간은 가장 늦은 시작 시간과 가장 이른 종료 시간으로 저장한다.
+ * 기존 검색 조건이 시작 시간과 종료 시간을 서로 다른 운영 시간에서 각각 확인하므로 두 값만으로 같은 결과를 낸다.
+ */
+public class ProductAvailability {
+
+    private static final int NO_TIME = -1;
+
+    private final long baseDay;
+    private final BitSet days;
+    private final int latestStartSecond;
+    private final int earliestEndSecond;
+
+    private ProductAvailability(long baseDay, BitSet days, int latestStartSecond, int earliestEndSecond) {
+        this.baseDay = baseDay;
+        this.days = days;
+        this.latestStartSecond = latestStartSecond;
+        this.earliestEndSecond = earliestEndSecond;
+    }
+
+    public static ProductAvailability of(List<LocalDate> dates, LocalTime latestStartTime, LocalTime earliestEndTime) {
+        long baseDay = dates.stream().mapToLong(LocalDate::toEpochDay).min().orElse(0L);
+        BitSet days = new BitSet();
+        for (LocalDate date : dates) {
+            days.set((int) (date.toEpochDay() - baseDay));
+        }
+        return new ProductAvailability(baseDay, days,
+                latestStartTime != null ? latestStartTime.toSecondOfDay() : NO_TIME,
+                earliestEndTime != null ? earliestEndTime.toSecondOfDay() : NO_TIME);
+    }
+
+    // startDate ~ endDate 사이에 운영일이 하나라도 있는지
+    public boolean hasDateBetween(LocalDate startDate, LocalDate endDate) {
+        if (days.isEmpty()) return false;
+        long from = startDate.toEpochDay() - baseDay;
+        long to = endDate.toEpochDay() - baseDay;
+        if (to < 0 || from > to) return false;
+        int next = days.nextSetBit((int) Math.max(0, Math.min(from, Integer.MAX_VALUE)));
+        return next >= 0 && next <= to;
+    }
+
+    // 운영일이 속한 구간 번호 (epochDay / bucketDays) 목록
+    public long[] dayBuckets(int bucketDays) {
+        return days.stream()
+                .mapToLong(day -> Math.floorDiv(baseDay + day, bucketDays))
+                .distinct()
+                .toArray();
+    }
+
+    public boolean hasTime() {
+        return latestStartSecond != NO_TIME && earliestEndSecond != NO_TIME;
+    }
+
+    public int getLatestStartSecond() {
+        return latestStartSecond;
+    }
+
+    // startTime 이후에 시작하는 운영 시간과 endTime 이전에 끝나는 운영 시간이 있는지
+    public boolean hasTimeBetween(LocalTime startTime, LocalTime endTime) {
+        if (latestStartSecond == NO_TIME || earliestEndSecond == NO_TIME) return false;
+        return latestStartSecond >= startTime.toSecondOfDay() && earliestEndSecond <= endTime.toSecondOfDay();
+    }
+}
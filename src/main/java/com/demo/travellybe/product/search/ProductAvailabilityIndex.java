@@ -0,0 +1,241 @@
+package com.demo.travellybe.product.search;
+
+import com.demo.travellybe.product.domain.OperationRule;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static com.demo.travellybe.product.domain.QOperationDay.operationDay;
+import static com.demo.travellybe.product.domain.QOperationHour.operationHour;
+import static com.demo.travellybe.product.domain.QOperationRule.operationRule;
+import static com.demo.travellybe.product.domain.QProduct.product;
+
+/**
+ * 상품별 운영 날짜, 운영 시간에 대한 메모리 색인. 반복 운영 규칙(OperationRule)은 날짜로 펼쳐서 색인한다.
+ * 날짜, 시간 검색 조건을 상품마다 EXISTS 서브쿼리로 확인하는 대신 메모리에서 일치하는 상품 ID를 구한다.
+ * 운영 일정이 바뀌면 ProductAvailabilityListener가 커밋 이후 해당 상품을 다시 읽어 반영하고,
+ * Redis pub/sub으로 다른 서버도 같은 상품을 다시 읽게 한다. 메시지 유실에 대비해 주기적으로 전체 색인을 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAvailabilityIndex implements MessageListener {
+
+    // 일치하는 상품이 이보다 많으면 IN 절이 오히려 느려지므로 기존 EXISTS 조건을 사용
+    public static final int MAX_CANDIDATES = 1000;
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final String CHANGE_CHANNEL = "product-availability:changed";
+
+    private final JPAQueryFactory queryFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ProductAvailabilities availabilities = new ProductAvailabilities();
+
+    // 색인을 만드는 동안 변경이 반영된 상품 (색인 생성 중이 아니면 null)
+    private Set<Long> changedWhileBuilding;
+    private final AtomicBoolean building = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        // 시작 시 색인과 주기적 재생성이 겹치지 않도록 함
+        if (!building.compareAndSet(false, true)) return;
+        try {
+            rebuild();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // 다른 서버의 변경 메시지를 놓친 경우에 대비해 주기적으로 전체 색인을 다시 만듦
+    @Scheduled(cron = "${product.availability.rebuild-cron:0 40 4 * * *}")
+    public void scheduledBuild() {
+        build();
+    }
+
+    private void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Long> productIds = queryFactory
+                        .select(product.id)
+                        .from(product)
+                        .where(product.id.gt(lastId))
+                        .orderBy(product.id.asc())
+                        .limit(BUILD_CHUNK_SIZE)
+                        .fetch();
+                if (productIds.isEmpty()) break;
+
+                load(productIds, true);
+                seen.addAll(productIds);
+                lastId = productIds.get(productIds.size() - 1);
+            }
+
+            // 삭제 메시지를 놓친 상품 제거
+            lock.writeLock().lock();
+            try {
+                for (Long productId : availabilities.productIds()) {
+                    if (!seen.contains(productId) && !changedWhileBuilding.contains(productId)) availabilities.remove(productId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("상품 운영 일정 색인 생성 완료: {}개", seen.size());
+        } catch (RuntimeException e) {
+            log.warn("상품 운영 일정 색인 생성 실패", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedWhileBuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 주어진 상품들의 운영 일정을 DB에서 다시 읽어 색인에 반영하고 다른 서버에 알린다.
+     * 운영일이 없는 상품(삭제된 상품 포함)은 색인에서 제거한다.
+     */
+    public void reload(Collection<Long> productIds) {
+        if (productIds.isEmpty()) return;
+        load(productIds, false);
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            log.warn("상품 운영 일정 색인 변경 알림 실패: {}", productIds, e);
+        }
+    }
+
+    // 다른 서버(또는 이 서버)에서 바뀐 상품을 DB에서 다시 읽어 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<Long> productIds;
+        try {
+            productIds = Arrays.stream(body.split(",")).map(Long::parseLong).toList();
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 운영 일정 색인 메시지: {}", body);
+            return;
+        }
+        load(productIds, false);
+    }
+
+    // fromBuild이면 색인 생성 중 이미 반영된 변경을 덮어쓰지 않음
+    private void load(Collection<Long> productIds, boolean fromBuild) {
+        Map<Long, List<LocalDate>> dates = new HashMap<>();
+        Map<Long, LocalTime> latestStartTimes = new HashMap<>();
+        Map<Long, LocalTime> earliestEndTimes = new HashMap<>();
+
+        for (Tuple row : queryFactory
+                .select(operationDay.product.id, operationDay.date)
+                .from(operationDay)
+                .where(operationDay.product.id.in(productIds))
+                .fetch()) {
+            dates.computeIfAbsent(row.get(operationDay.product.id), key -> new ArrayList<>())
+                    .add(row.get(operationDay.date));
+        }
+
+        for (Tuple row : queryFactory
+                .select(operationDay.product.id, operationHour.startTime.max(), operationHour.endTime.min())
+                .from(operationHour)
+                .join(operationHour.operationDay, operationDay)
+                .where(operationDay.product.id.in(productIds))
+                .groupBy(operationDay.product.id)
+                .fetch()) {
+            Long productId = row.get(operationDay.product.id);
+            mergeTimes(latestStartTimes, earliestEndTimes, productId,
+                    row.get(operationHour.startTime.max()), row.get(operationHour.endTime.min()));
+        }
+
+        // 반복 운영 규칙은 날짜로 펼쳐서 운영일과 합침
+        for (OperationRule rule : queryFactory
+                .selectFrom(operationRule)
+                .distinct()
+                .leftJoin(operationRule.excludedDates).fetchJoin()
+                .where(operationRule.product.id.in(productIds))
+                .fetch()) {
+            Long productId = rule.getProduct().getId();
+            dates.computeIfAbsent(productId, key -> new ArrayList<>()).addAll(rule.getOperationDates());
+            mergeTimes(latestStartTimes, earliestEndTimes, productId, rule.getStartTime(), rule.getEndTime());
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Long productId : productIds) {
+                if (changedWhileBuilding != null) {
+                    // 청크를 읽은 뒤 커밋된 변경이 이미 반영되었으면 청크의 이전 값으로 덮어쓰지 않음
+                    if (fromBuild && changedWhileBuilding.contains(productId)) continue;
+                    if (!fromBuild) changedWhileBuilding.add(productId);
+                }
+                List<LocalDate> productDates = dates.get(productId);
+                if (productDates == null || productDates.isEmpty()) {
+                    availabilities.remove(productId);
+                    continue;
+                }
+                availabilities.put(productId, ProductAvailability.of(productDates,
+                        latestStartTimes.get(productId), earliestEndTimes.get(productId)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void mergeTimes(Map<Long, LocalTime> latestStartTimes, Map<Long, LocalTime> earliestEndTimes,
+                            Long productId, LocalTime startTime, LocalTime endTime) {
+        if (startTime != null) latestStartTimes.merge(productId, startTime, (a, b) -> a.isAfter(b) ? a : b);
+        if (endTime != null) earliestEndTimes.merge(productId, endTime, (a, b) -> a.isBefore(b) ? a : b);
+    }
+
+    /**
+     * 날짜, 시간 조건을 모두 만족하는 상품 ID를 반환한다. null인 조건은 확인하지 않는다.
+     * 색인이 아직 준비되지 않았거나 일치하는 상품이 너무 많으면 빈 Optional을 반환한다.
+     */
+    public Optional<Set<Long>> search(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime) {
+        if (!ready) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            return availabilities.search(startDate, endDate, startTime, endTime, MAX_CANDIDATES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
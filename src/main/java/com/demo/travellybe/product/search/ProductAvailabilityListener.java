@@ -0,0 +1,70 @@
+package com.demo.travellybe.product.search;
+
+import com.demo.travellybe.product.domain.OperationDay;
+import com.demo.travellybe.product.domain.OperationHour;
+import com.demo.travellybe.product.domain.OperationRule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 운영일, 운영 시간, 운영 규칙의 저장, 수정, 삭제를 운영 일정 색인에 반영하는 엔티티 리스너.
+ * Product.update는 운영 일정 컬렉션만 바꾸는 경우가 있어 Product가 아닌 OperationDay, OperationHour, OperationRule에서 변경을 감지한다.
+ * 한 트랜잭션에서 바뀐 상품은 모아 두었다가 커밋 이후 한 번에 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductAvailabilityListener {
+
+    private static final Object DIRTY_PRODUCTS_KEY = ProductAvailabilityListener.class.getName() + ".DIRTY_PRODUCTS";
+
+    private final ProductAvailabilityIndex productAvailabilityIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof OperationDay day) {
+            markDirty(day.getProduct().getId());
+        } else if (entity instanceof OperationHour hour) {
+            markDirty(hour.getOperationDay().getProduct().getId());
+        } else if (entity instanceof OperationRule rule) {
+            markDirty(rule.getProduct().getId());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void markDirty(Long productId) {
+        if (productId == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productAvailabilityIndex.reload(Set.of(productId));
+            return;
+        }
+
+        Set<Long> dirtyProductIds = (Set<Long>) TransactionSynchronizationManager.getResource(DIRTY_PRODUCTS_KEY);
+        if (dirtyProductIds == null) {
+            Set<Long> productIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(DIRTY_PRODUCTS_KEY, productIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    productAvailabilityIndex.reload(productIds);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DIRTY_PRODUCTS_KEY);
+                }
+            });
+            dirtyProductIds = productIds;
+        }
+        dirtyProductIds.add(productId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.demo.travellybe.product.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.demo.travellybe.product.domain.QProduct.product;
+
+/**
+ * 상품 이름, 설명, 주소에 대한 메모리 역색인.
+ * 한글은 형태소 분석 없이도 검색되도록 글자 단위 1-gram, 2-gram으로 색인한다(NGramIndex).
+ * 색인 결과는 LIKE 검색의 후보 집합(superset)이므로 최종 일치 여부는 DB에서 다시 확인한다.
+ * 서버마다 색인을 가지므로 상품이 바뀌면 Redis pub/sub으로 모든 서버가 해당 상품을 DB에서 다시 읽고,
+ * 메시지 유실에 대비해 주기적으로 전체 색인을 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex implements MessageListener {
+
+    // 후보가 이보다 많으면 IN 절이 오히려 느려지므로 기존 LIKE 검색을 사용
+    public static final int MAX_CANDIDATES = 1000;
+    private static final int BUILD_CHUNK_SIZE = 1000;
+    private static final String CHANGE_CHANNEL = "product-search:changed";
+
+    private final JPAQueryFactory queryFactory;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NGramIndex index;
+
+    // 색인을 만드는 동안 변경이 반영된 상품 (색인 생성 중이 아니면 null)
+    private Set<Long> changedWhileBuilding;
+    private final AtomicBoolean building = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    public ProductSearchIndex(JPAQueryFactory queryFactory,
+                              RedisMessageListenerContainer listenerContainer,
+                              RedisTemplate<String, String> redisTemplate,
+                              @Value("${product.search.max-grams-per-product:4096}") int maxGramsPerProduct) {
+        this.queryFactory = queryFactory;
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.index = new NGramIndex(maxGramsPerProduct);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANGE_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        // 시작 시 색인과 주기적 재생성이 겹치지 않도록 함
+        if (!building.compareAndSet(false, true)) return;
+        try {
+            rebuild();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // 다른 서버의 변경 메시지를 놓친 경우에 대비해 주기적으로 전체 색인을 다시 만듦
+    @Scheduled(cron = "${product.search.rebuild-cron:0 30 4 * * *}")
+    public void scheduledBuild() {
+        build();
+    }
+
+    private void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedWhileBuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Long> seen = new HashSet<>();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Tuple> rows = queryFactory
+                        .select(product.id, product.name, product.description, product.address)
+                        .from(product)
+                        .where(product.id.gt(lastId))
+                        .orderBy(product.id.asc())
+                        .limit(BUILD_CHUNK_SIZE)
+                        .fetch();
+                if (rows.isEmpty()) break;
+
+                lock.writeLock().lock();
+                try {
+                    for (Tuple row : rows) {
+                        Long productId = row.get(product.id);
+                        seen.add(productId);
+                        // 청크를 읽은 뒤 커밋된 변경이 이미 반영되었으면 청크의 이전 값으로 덮어쓰지 않음
+                        if (changedWhileBuilding.contains(productId)) continue;
+                        index.index(productId, row.get(product.name), row.get(product.description), row.get(product.address));
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                lastId = rows.get(rows.size() - 1).get(product.id);
+            }
+
+            // 삭제 메시지를 놓친 상품 제거
+            lock.writeLock().lock();
+            try {
+                for (Long productId : index.documentIds()) {
+                    if (!seen.contains(productId) && !changedWhileBuilding.contains(productId)) index.remove(productId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("상품 검색 색인 생성 완료: {}개", seen.size());
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 색인 생성 실패", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedWhileBuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 커밋된 상품 변경을 이 서버에 바로 반영하고 다른 서버에 알림
+    public void index(Long productId, String name, String description, String address) {
+        apply(productId, () -> index.index(productId, name, description, address));
+        publish(productId);
+    }
+
+    public void remove(Long productId) {
+        apply(productId, () -> index.remove(productId));
+        publish(productId);
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 상품 ID 후보를 반환한다.
+     * 색인이 아직 준비되지 않았거나 후보가 너무 많으면 빈 Optional을 반환한다.
+     */
+    public Optional<Set<Long>> search(String keyword) {
+        if (!ready) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            return index.search(keyword, MAX_CANDIDATES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 다른 서버(또는 이 서버)에서 바뀐 상품을 DB에서 다시 읽어 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        Long productId;
+        try {
+            productId = Long.parseLong(body);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 검색 색인 메시지: {}", body);
+            return;
+        }
+
+        Tuple row = queryFactory
+                .select(product.name, product.description, product.address)
+                .from(product)
+                .where(product.id.eq(productId))
+                .fetchOne();
+        if (row == null) {
+            apply(productId, () -> index.remove(productId));
+            return;
+        }
+        apply(productId, () -> index.index(productId, row.get(product.name), row.get(product.description), row.get(product.address)));
+    }
+
+    private void apply(Long productId, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (changedWhileBuilding != null) changedWhileBuilding.add(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void publish(Long productId) {
+        try {
+            redisTemplate.convertAndSend(CHANGE_CHANNEL, String.valueOf(productId));
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 색인 변경 알림 실패: {}", productId, e);
+        }
+    }
+}
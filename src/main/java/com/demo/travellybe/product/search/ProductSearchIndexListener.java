@@ -0,0 +1,50 @@
+package com.demo.travellybe.product.search;
+
+import com.demo.travellybe.product.domain.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 저장, 수정, 삭제를 검색 색인에 반영하는 엔티티 리스너.
+ * 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexListener {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        Long productId = product.getId();
+        String name = product.getName();
+        String description = product.getDescription();
+        String address = product.getAddress();
+        afterCommit(() -> productSearchIndex.index(productId, name, description, address));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        Long productId = product.getId();
+        afterCommit(() -> productSearchIndex.remove(productId));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
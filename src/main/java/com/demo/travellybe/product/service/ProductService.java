@@ -4,13 +4,16 @@ import com.demo.travellybe.auth.dto.PrincipalDetails;
 import com.demo.travellybe.product.dto.KeywordRankChangeDto;
 import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
+import com.demo.travellybe.product.dto.response.DailyCapacityResponseDto;
 import com.demo.travellybe.product.dto.response.MyProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductWithReservationCountDto;
 import com.demo.travellybe.product.dto.response.ProductsResponseDto;
+import com.demo.travellybe.product.dto.response.ProductsSliceResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ProductService {
@@ -20,9 +23,11 @@ public interface ProductService {
     ProductResponseDto getProductById(Long id);
     void checkProductOwner(Long productId, Long memberId);
     void checkLogin(PrincipalDetails principalDetails);
+    List<DailyCapacityResponseDto> getDailyCapacities(Long productId, LocalDate startDate, LocalDate endDate);
 
     Page<ProductResponseDto> getAllProducts(Pageable pageable);
     Page<ProductsResponseDto> getSearchedProducts(ProductsSearchRequestDto productsSearchRequestDto);
+    ProductsSliceResponseDto getSearchedProductsByCursor(ProductsSearchRequestDto productsSearchRequestDto);
 
     List<String> getTopSearchKeywords();
     List<KeywordRankChangeDto> getTopSearchKeywordsWithRankChange();
@@ -1,21 +1,35 @@
 package com.demo.travellybe.product.service;
 
 
-import com.demo.travellybe.Reservation.domain.ReservationStatus;
-import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
 import com.demo.travellybe.auth.dto.PrincipalDetails;
 import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.product.cache.ProductDetailCache;
+import com.demo.travellybe.product.domain.OperationRule;
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.ProductCapacity;
 import com.demo.travellybe.product.dto.KeywordRankChangeDto;
+import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.dto.ProductCursor;
+import com.demo.travellybe.product.dto.OperationRuleDto;
+import com.demo.travellybe.product.dto.ProductImageDto;
 import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
+import com.demo.travellybe.product.dto.response.DailyCapacityResponseDto;
 import com.demo.travellybe.product.dto.response.MyProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductResponseDto;
 import com.demo.travellybe.product.dto.response.ProductWithReservationCountDto;
 import com.demo.travellybe.product.dto.response.ProductsResponseDto;
+import com.demo.travellybe.product.dto.response.ProductsSliceResponseDto;
+import com.demo.travellybe.product.dto.response.SlotCapacityResponseDto;
+import com.demo.travellybe.product.ranking.KeywordRankSnapshot;
+import com.demo.travellybe.product.ranking.ProductViewCounter;
+import com.demo.travellybe.product.ranking.SearchKeywordTracker;
+import com.demo.travellybe.product.ranking.TopProductsMaterializer;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
 import com.demo.travellybe.product.repository.ProductRepository;
 import com.demo.travellybe.review.repository.ReviewRepository;
 import jakarta.transaction.Transactional;
@@ -23,14 +37,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,14 +56,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_CAPACITY_PERIOD_DAYS = 93;
+
     private final ProductRepository productRepository;
+    private final ProductCapacityRepository productCapacityRepository;
     private final MemberRepository memberRepository;
-    private final ReservationRepository reservationRepository;
+    private final PendingReservationCounters pendingReservationCounters;
     private final ReviewRepository reviewRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ProductDetailCache productDetailCache;
+    private final ProductViewCounter productViewCounter;
+    private final KeywordRankSnapshot keywordRankSnapshot;
+    private final SearchKeywordTracker searchKeywordTracker;
+    private final TopProductsMaterializer topProductsMaterializer;
 
     @Override
     public ProductResponseDto addProduct(Long memberId, ProductCreateRequestDto productCreateRequestDto) {
+        validateOperationRules(productCreateRequestDto);
         Product product = Product.of(productCreateRequestDto);
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
@@ -58,24 +85,39 @@ public class ProductServiceImpl implements ProductService {
     public void deleteProduct(Long id) {
         productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+        // 상품의 예약도 함께 삭제되므로 대기 예약 수에서 제외
+        pendingReservationCounters.removeProduct(id);
         productRepository.deleteById(id);
+        productDetailCache.evict(id);
+        topProductsMaterializer.refreshAfterCommit();
     }
 
     @Override
     public void updateProduct(Long id, ProductCreateRequestDto productCreateRequestDto) {
+        validateOperationRules(productCreateRequestDto);
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
         product.update(productCreateRequestDto);
+        productDetailCache.evict(id);
     }
 
     @Override
     public ProductResponseDto getProductById(Long id) {
+        ProductResponseDto cached = productDetailCache.get(id);
+        if (cached != null) {
+            // 캐시에서 조회해도 조회수는 집계
+            productViewCounter.increment(id);
+            return cached;
+        }
+
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-        // 상품 id를 Redis에 저장
-        redisTemplate.opsForZSet().incrementScore("popular_products", String.valueOf(id), 1);
+        // 조회수는 모아서 주기적으로 Redis에 반영
+        productViewCounter.increment(id);
         int reviewCount = (int) reviewRepository.countByProductId(id);
-        return new ProductResponseDto(product, reviewCount);
+        ProductResponseDto productResponseDto = new ProductResponseDto(product, reviewCount);
+        productDetailCache.put(id, productResponseDto);
+        return productResponseDto;
     }
 
     @Override
@@ -93,11 +135,48 @@ public class ProductServiceImpl implements ProductService {
     }
 
 
+    @Override
+    public List<DailyCapacityResponseDto> getDailyCapacities(Long productId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_CAPACITY_PERIOD_DAYS)
+            throw new CustomException(ErrorCode.PRODUCT_INVALID_CAPACITY_PERIOD);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        // 기간 내 예약 수량을 한 번에 조회, 행이 없는 날짜(운영 시간)는 예약이 없는 것
+        Map<LocalDate, Map<LocalTime, Integer>> reserved = productCapacityRepository
+                .findByProductIdAndDateBetween(productId, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(ProductCapacity::getDate,
+                        Collectors.toMap(ProductCapacity::getStartTime, ProductCapacity::getReserved)));
+
+        List<DailyCapacityResponseDto> capacities = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!product.isOperatingOn(date)) continue;
+            Map<LocalTime, Integer> reservedOfDay = reserved.getOrDefault(date, Map.of());
+            // 하루 종일 운영하는 날은 날짜 전체 수량만 있음
+            if (product.isAllDayOn(date)) {
+                capacities.add(new DailyCapacityResponseDto(date,
+                        remaining(product, reservedOfDay.get(ProductCapacity.ALL_DAY)), List.of()));
+                continue;
+            }
+            // 같은 시작 시간의 운영 시간은 같은 수량을 사용하므로 하나로 합침
+            TreeMap<LocalTime, OperationDayHourDto> hours = new TreeMap<>();
+            product.getOperationHours(date).forEach(hour -> hours.putIfAbsent(hour.getStartTime(), hour));
+            List<SlotCapacityResponseDto> slots = hours.values().stream()
+                    .map(hour -> new SlotCapacityResponseDto(hour.getStartTime(), hour.getEndTime(),
+                            remaining(product, reservedOfDay.get(hour.getStartTime()))))
+                    .toList();
+            capacities.add(new DailyCapacityResponseDto(date,
+                    slots.stream().mapToInt(SlotCapacityResponseDto::getRemaining).sum(), slots));
+        }
+        return capacities;
+    }
+
     @Override
     public Page<ProductResponseDto> getAllProducts(Pageable pageable) {
         Page<Product> products = productRepository.findAll(pageable);
+        Map<Long, Integer> reviewCounts = reviewRepository.countByProducts(products.getContent());
         List<ProductResponseDto> productDtos = products.stream()
-                .map(product -> new ProductResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
+                .map(product -> new ProductResponseDto(product, reviewCounts.get(product.getId())))
                 .collect(Collectors.toList());
         return new PageImpl<>(productDtos, pageable, products.getTotalElements());
     }
@@ -105,87 +184,50 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Page<ProductsResponseDto> getSearchedProducts(ProductsSearchRequestDto requestDto) {
-        // 검색 키워드를 Redis에 저장
-        if (requestDto.getKeyword() != null && !requestDto.getKeyword().isEmpty())
-            redisTemplate.opsForZSet().incrementScore("popular_keywords", requestDto.getKeyword(), 1);
+        // 검색 키워드 집계 (주기적으로 Redis에 반영)
+        searchKeywordTracker.record(requestDto.getKeyword());
 
         Pageable pageable = requestDto.toPageable();
         Page<Product> products = productRepository.getSearchedProducts(requestDto, pageable);
-
-        List<ProductsResponseDto> productDtos = products.stream()
-                .map(product -> new ProductsResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
-                .toList();
+        List<ProductsResponseDto> productDtos = toProductCards(products.getContent());
 
         return new PageImpl<>(productDtos, pageable, products.getTotalElements());
     }
 
+    @Override
+    public ProductsSliceResponseDto getSearchedProductsByCursor(ProductsSearchRequestDto requestDto) {
+        // 검색 키워드는 첫 페이지 요청에서만 집계
+        if (requestDto.getCursor() == null)
+            searchKeywordTracker.record(requestDto.getKeyword());
+
+        Slice<Product> products = productRepository.getSearchedProductsByCursor(requestDto);
+        List<ProductsResponseDto> productDtos = toProductCards(products.getContent());
+
+        String nextCursor = products.hasNext()
+                ? ProductCursor.encode(requestDto.resolveSort(), products.getContent().get(products.getNumberOfElements() - 1))
+                : null;
+        return new ProductsSliceResponseDto(productDtos, nextCursor);
+    }
+
     @Override
     public List<String> getTopSearchKeywords() {
         // Redis에서 인기검색어 top 10을 조회하여 반환
-        Set<String> topKeywords = redisTemplate.opsForZSet().reverseRange("popular_keywords", 0, 9);
+        Set<String> topKeywords = redisTemplate.opsForZSet().reverseRange(KeywordRankSnapshot.POPULAR_KEYWORDS_KEY, 0, 9);
         if (topKeywords == null) return new ArrayList<>();
         return new ArrayList<>(topKeywords);
     }
 
     @Override
     public List<KeywordRankChangeDto> getTopSearchKeywordsWithRankChange() {
-        // Redis에서 인기검색어 top 10을 조회
-        Set<String> topKeywords = redisTemplate.opsForZSet().reverseRange("popular_keywords", 0, 9);
-        List<KeywordRankChangeDto> keywordRankChangeDtoList = new ArrayList<>();
-
-        if (topKeywords == null) return keywordRankChangeDtoList;
-
-        int rank = 1;
-        for (String keyword : topKeywords) {
-            // 현재 랭킹
-            int currentRank = rank++;
-
-            // 이전 랭킹 조회
-            Long previousRankLong = redisTemplate.opsForZSet().reverseRank("popular_keywords_prev", keyword);
-            int previousRank = previousRankLong != null ? previousRankLong.intValue() + 1 : currentRank;
-
-            // 랭킹 변화 계산
-            int rankChange = previousRank - currentRank;
-
-            // KeywordRankChangeDto 생성 및 리스트에 추가
-            keywordRankChangeDtoList.add(new KeywordRankChangeDto(keyword, currentRank, previousRank, rankChange));
-        }
-
-        // 현재 인기검색어를 이전 인기검색어로 복사
-        redisTemplate.opsForZSet().intersectAndStore("popular_keywords", "popular_keywords", "popular_keywords_prev");
-
-        return keywordRankChangeDtoList;
+        // 스냅샷 작업(KeywordRankSnapshot)이 미리 계산해 둔 순위 변화를 조회
+        return keywordRankSnapshot.getRankChanges();
     }
 
 
     @Override
     public List<ProductsResponseDto> getTopProducts() {
-        // Redis에서 인기상품 top 10을 조회하여 반환
-        Set<String> topProducts = redisTemplate.opsForZSet().reverseRange("popular_products", 0, 19);
-        if (topProducts == null) return new ArrayList<>();
-
-        // 모든 상품을 조회하고 Map에 저장
-        Map<Long, Product> productMap = productRepository.findAllById(topProducts.stream()
-                        .map(Long::parseLong).collect(Collectors.toList()))
-                .stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
-
-        // 원래 순서를 유지하면서 ProductsResponseDto 리스트를 생성
-        return topProducts.stream()
-                .map(Long::parseLong)
-                .filter(productId -> {
-                    Product product = productMap.get(productId);
-                    if (product == null) {
-                        // 상품이 삭제되었으면 Redis에서 해당 상품 ID를 삭제
-                        redisTemplate.opsForZSet().remove("popular_products", String.valueOf(productId));
-                        return false;
-                    }
-                    return true;
-                })
-                .map(productMap::get)
-                .map(product -> new ProductsResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
-                .limit(10)
-                .collect(Collectors.toList());
+        // 최근 집계 기간의 인기상품 top 10 (TopProductsMaterializer가 미리 만들어 둔 목록)
+        return topProductsMaterializer.getTopProducts();
     }
 
 
@@ -199,9 +241,13 @@ public class ProductServiceImpl implements ProductService {
         // 유저가 가진 상품 검색
         List<Product> products = productRepository.findAllByMemberId(member.getId());
 
-
+        Map<Long, Integer> reviewCounts = reviewRepository.countByProducts(products);
+        Map<Long, List<ProductImageDto>> images = productRepository.findImagesByProductIds(
+                products.stream().map(Product::getId).toList());
         return products.stream()
-                .map(product -> new MyProductResponseDto(product, (int) reviewRepository.countByProductId(product.getId())))
+                .map(product -> new MyProductResponseDto(product,
+                        images.getOrDefault(product.getId(), new ArrayList<>()),
+                        reviewCounts.get(product.getId())))
                 .toList();
     }
 
@@ -214,17 +260,40 @@ public class ProductServiceImpl implements ProductService {
         // 유저가 가진 상품 검색
         List<Product> products = productRepository.findByMemberId(member.getId());
 
+        // 상품 별 새로운 예약 수
+        Map<Long, Integer> pendingCounts = pendingReservationCounters.getProductCounts(
+                products.stream().map(Product::getId).toList());
+
         return products.stream()
-                .map(product -> {
+                .map(product -> new ProductWithReservationCountDto(product, pendingCounts.getOrDefault(product.getId(), 0)))
+                .toList();
+    }
 
-                    // 상품 별 새로운 예약 수
-                    long reviewCount = reservationRepository.findByProductId(product.getId()).stream()
-                            .filter(reservation -> reservation.getStatus().equals(ReservationStatus.PENDING))
-                            .count();
+    // 운영 규칙의 기간(최대 MAX_PERIOD_DAYS일), 시간이 올바른지 확인
+    private void validateOperationRules(ProductCreateRequestDto productCreateRequestDto) {
+        if (productCreateRequestDto.getOperationRules() == null) return;
+        for (OperationRuleDto operationRuleDto : productCreateRequestDto.getOperationRules()) {
+            if (operationRuleDto.getStartDate() == null || operationRuleDto.getEndDate() == null
+                    || operationRuleDto.getStartDate().isAfter(operationRuleDto.getEndDate()))
+                throw new CustomException(ErrorCode.PRODUCT_INVALID_OPERATION_RULE);
+            if (ChronoUnit.DAYS.between(operationRuleDto.getStartDate(), operationRuleDto.getEndDate()) >= OperationRule.MAX_PERIOD_DAYS)
+                throw new CustomException(ErrorCode.PRODUCT_INVALID_OPERATION_RULE);
+            if (operationRuleDto.getStartTime() != null && operationRuleDto.getEndTime() != null
+                    && !operationRuleDto.getStartTime().isBefore(operationRuleDto.getEndTime()))
+                throw new CustomException(ErrorCode.PRODUCT_INVALID_OPERATION_RULE);
+            // 요일, 제외 날짜 때문에 운영일이 하루도 없는 규칙
+            if (OperationRule.of(operationRuleDto, null).getOperationDates().isEmpty())
+                throw new CustomException(ErrorCode.PRODUCT_INVALID_OPERATION_RULE);
+        }
+    }
 
-                    return new ProductWithReservationCountDto(product, (int) reviewCount);
-                })
-                .toList();
+    // 정원보다 줄어든 경우에도 음수가 되지 않도록 0으로 맞춤
+    private int remaining(Product product, Integer reserved) {
+        return Math.max(product.getQuantity() - (reserved != null ? reserved : 0), 0);
     }
 
+    // 상품 카드 목록을 상품 수와 관계없이 일정한 쿼리 수로 생성
+    private List<ProductsResponseDto> toProductCards(List<Product> products) {
+        return productRepository.findProductCards(products, reviewRepository.countByProducts(products));
+    }
 }
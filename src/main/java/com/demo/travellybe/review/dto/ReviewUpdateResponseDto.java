@@ -24,7 +24,7 @@ public class ReviewUpdateResponseDto {
         this.productId = review.getProduct().getId();
         this.productName = review.getProduct().getName();
         this.images = review.getProduct().getImages().stream().map(ProductImageDto::new).toList();
-        this.operationDays = review.getProduct().getOperationDays().stream().map(OperationDayDto::new).toList();
+        this.operationDays = review.getProduct().getOperationSchedule();
 
         this.reviewId = review.getId();
         this.likeCount = review.getLikeCount();
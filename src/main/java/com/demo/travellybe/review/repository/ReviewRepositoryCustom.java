@@ -1,10 +1,13 @@
 package com.demo.travellybe.review.repository;
 
+import com.demo.travellybe.product.domain.Product;
 import com.demo.travellybe.review.domain.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface ReviewRepositoryCustom {
     List<Review> findByMemberId(Long memberId);
@@ -15,6 +18,18 @@ public interface ReviewRepositoryCustom {
 
     long countByProductId(Long productId);
 
+    Map<Long, Long> countByProductIds(List<Long> productIds);
+
+    // 상품 목록의 리뷰 개수를 한 번의 쿼리로 조회 (리뷰가 없는 상품은 0)
+    default Map<Long, Integer> countByProducts(List<Product> products) {
+        Map<Long, Long> counts = countByProductIds(products.stream().map(Product::getId).toList());
+        Map<Long, Integer> reviewCounts = new HashMap<>();
+        for (Product product : products) {
+            reviewCounts.put(product.getId(), counts.getOrDefault(product.getId(), 0L).intValue());
+        }
+        return reviewCounts;
+    }
+
     Page<Review> findAllByProductId(Long productId, Pageable pageable);
 
     List<Review> findRecentReviewsByProductIds(List<Long> products);
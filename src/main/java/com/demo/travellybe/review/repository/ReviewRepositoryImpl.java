@@ -1,13 +1,18 @@
 package com.demo.travellybe.review.repository;
 
 import com.demo.travellybe.review.domain.Review;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.demo.travellybe.review.domain.QReview.review;
 import static com.demo.travellybe.comment.domain.QComment.comment;
@@ -62,6 +67,24 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom{
         return count != null ? count : 0L;
     }
 
+    @Override
+    public Map<Long, Long> countByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) return new HashMap<>();
+
+        // 상품별 리뷰 개수를 한 번의 group by 쿼리로 조회
+        NumberExpression<Long> reviewCount = review.count();
+        return queryFactory
+                .select(review.product.id, reviewCount)
+                .from(review)
+                .where(review.product.id.in(productIds))
+                .groupBy(review.product.id)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(review.product.id),
+                        tuple -> tuple.get(reviewCount)));
+    }
+
     @Override
     public Page<Review> findAllByProductId(Long productId, Pageable pageable) {
         List<Review> reviews = queryFactory
@@ -7,6 +7,7 @@ import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.product.cache.ProductDetailCache;
 import com.demo.travellybe.product.domain.Product;
 import com.demo.travellybe.product.dto.response.ProductReviewResponseDto;
 import com.demo.travellybe.product.repository.ProductRepository;
@@ -36,6 +37,7 @@ public class ReviewServiceImpl implements ReviewService{
     private final S3Service s3Service;
     private final ReviewRepository reviewRepository;
     private final CommentRepository commentRepository;
+    private final ProductDetailCache productDetailCache;
 
     public void saveReview(List<MultipartFile> files, ReviewRequestDto reviewRequestDto, String email, Long productId) {
 
@@ -64,6 +66,10 @@ public class ReviewServiceImpl implements ReviewService{
         product.addReview(review);
 
         reviewRepository.save(review);
+
+        // 상품의 리뷰 개수, 평점 갱신
+        productRepository.updateReviewStats(productId, 1, review.getRating());
+        productDetailCache.evict(productId);
     }
 
     public ReviewResponseDto getReview(Long productId, Long reviewId, String email) {
@@ -126,7 +132,13 @@ public class ReviewServiceImpl implements ReviewService{
         }
 
         // 리뷰 수정
+        int previousRating = review.getRating();
         review.update(filesUrls, reviewRequestDto);
+
+        // 상품 평점 갱신
+        Long productId = review.getProduct().getId();
+        productRepository.updateReviewStats(productId, 0, review.getRating() - previousRating);
+        productDetailCache.evict(productId);
     }
 
     public void deleteReview(Long reviewId) {
@@ -135,6 +147,13 @@ public class ReviewServiceImpl implements ReviewService{
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
 
+        Long productId = review.getProduct().getId();
+        int rating = review.getRating();
+
         reviewRepository.deleteById(reviewId);
+
+        // 상품의 리뷰 개수, 평점 갱신
+        productRepository.updateReviewStats(productId, -1, -rating);
+        productDetailCache.evict(productId);
     }
 }
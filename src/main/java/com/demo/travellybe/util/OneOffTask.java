@@ -0,0 +1,26 @@
+package com.demo.travellybe.util;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료한 일회성 데이터 보정 작업 기록 (OneOffTasks).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OneOffTask {
+
+    @Id
+    @Column(name = "task_name", length = 100)
+    private String taskName;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,16 @@
+package com.demo.travellybe.util;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OneOffTaskRepository extends JpaRepository<OneOffTask, String> {
+
+    // 완료 기록이 없을 때만 남기고 1 반환, 이미 있으면 0 반환
+    // 같은 작업을 기록하려는 다른 트랜잭션은 먼저 기록한 트랜잭션이 끝날 때까지 기다림
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO one_off_task (task_name, completed_at) VALUES (:taskName, NOW())",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("taskName") String taskName);
+}
@@ -0,0 +1,84 @@
+package com.demo.travellybe.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 배포 후 한 번만 필요한 데이터 보정 작업을 실행한다. 완료한 작업은 DB(one_off_task)에 기록한다.
+ * 실패하거나 도중에 서버가 내려가면 기록이 남지 않으므로 다음 시작 시 다시 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OneOffTasks {
+
+    private static final String LOCK_KEY_PREFIX = "one-off:lock:";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final OneOffTaskRepository oneOffTaskRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 작업을 여러 트랜잭션(청크)으로 나누어 실행한다. 여러 서버 중 하나만 실행하도록 Redis 잠금을 사용하며,
+     * 작업이 끝난 뒤 완료를 기록하므로 작업은 여러 번 실행해도 결과가 같아야 한다.
+     */
+    public void runOnce(String taskName, Duration lockTimeout, Runnable task) {
+        String lockKey = LOCK_KEY_PREFIX + taskName;
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            if (oneOffTaskRepository.existsById(taskName)) return;
+            // 다른 서버가 실행 중
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, lockTimeout);
+            if (!Boolean.TRUE.equals(locked)) return;
+        } catch (RuntimeException e) {
+            log.warn("일회성 작업 확인 실패: {}", taskName, e);
+            return;
+        }
+
+        try {
+            // 잠금을 얻기 전에 다른 서버가 끝냈을 수 있음
+            if (oneOffTaskRepository.existsById(taskName)) return;
+            task.run();
+            transactionTemplate.executeWithoutResult(status -> oneOffTaskRepository.insertIfAbsent(taskName));
+            log.info("일회성 작업 완료: {}", taskName);
+        } catch (RuntimeException e) {
+            log.warn("일회성 작업 실패, 다음 시작 시 다시 실행: {}", taskName, e);
+        } finally {
+            try {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), lockToken);
+            } catch (RuntimeException e) {
+                log.warn("일회성 작업 잠금 해제 실패: {}", taskName, e);
+            }
+        }
+    }
+
+    /**
+     * 작업과 완료 기록을 하나의 트랜잭션으로 실행하므로 작업이 정확히 한 번만 반영된다.
+     * 여러 번 실행하면 결과가 달라지는 작업(더하기 등)에 사용한다.
+     */
+    public void runOnceInTransaction(String taskName, Runnable task) {
+        try {
+            Boolean ran = transactionTemplate.execute(status -> {
+                // 완료 기록을 먼저 남겨, 같은 작업을 실행하려는 다른 서버는 이 트랜잭션이 끝날 때까지 기다린 뒤 건너뜀
+                if (oneOffTaskRepository.insertIfAbsent(taskName) == 0) return false;
+                task.run();
+                return true;
+            });
+            if (Boolean.TRUE.equals(ran)) log.info("일회성 작업 완료: {}", taskName);
+        } catch (RuntimeException e) {
+            log.warn("일회성 작업 실패, 다음 시작 시 다시 실행: {}", taskName, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.demo.travellybe.Reservation.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationEventStreamTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final int EVENTS = 100;
+    private static final long SLOW_SELLER = 1L;
+    private static final long FAST_SELLER = 2L;
+
+    @Mock private RedisMessageListenerContainer listenerContainer;
+
+    ReservationEventStream eventStream;
+
+    @BeforeEach
+    void setUp() {
+        // heartbeat가 섞이지 않도록 간격을 길게 둠
+        eventStream = new ReservationEventStream(listenerContainer, new ObjectMapper(), 3600, BUFFER_SIZE, 60, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStream.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 연결 - 오래된 이벤트를 버리고 다른 판매자의 이벤트 전달을 막지 않음")
+    void slowConnection_dropsOldest() throws InterruptedException {
+        // given
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch slowLastReceived = new CountDownLatch(1);
+        CountDownLatch fastAllReceived = new CountDownLatch(EVENTS);
+        List<Long> slowReceived = new CopyOnWriteArrayList<>();
+        List<Long> fastReceived = new CopyOnWriteArrayList<>();
+
+        Disposable slow = eventStream.subscribe(SLOW_SELLER, received(slowReceived, id -> {
+            if (id == EVENTS) slowLastReceived.countDown();
+            try {
+                // 클라이언트가 읽지 않아 전송이 멈춘 상태
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), e -> {}, () -> {});
+        Disposable fast = eventStream.subscribe(FAST_SELLER, received(fastReceived, id -> fastAllReceived.countDown()),
+                e -> {}, () -> {});
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (long id = 1; id <= EVENTS; id++) {
+                eventStream.onMessage(message(SLOW_SELLER, id), null);
+                eventStream.onMessage(message(FAST_SELLER, id), null);
+            }
+        });
+
+        // then
+        assertThat(fastAllReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fastReceived).containsExactlyElementsOf(LongStream.rangeClosed(1, EVENTS).boxed().toList());
+
+        stalled.countDown();
+        assertThat(slowLastReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        // 전송 중이던 이벤트와 전송 스레드로 넘어간 이벤트 외에는 버퍼 크기만큼의 최신 이벤트만 남음
+        assertThat(slowReceived).hasSizeLessThanOrEqualTo(BUFFER_SIZE + 3);
+        assertThat(slowReceived).isSorted();
+        assertThat(slowReceived.getLast()).isEqualTo((long) EVENTS);
+
+        slow.dispose();
+        fast.dispose();
+    }
+
+    private static Consumer<ServerSentEvent<ReservationEvent>> received(List<Long> ids, Consumer<Long> then) {
+        return event -> {
+            if (event.data() == null) return;
+            ids.add(event.data().getReservationId());
+            then.accept(event.data().getReservationId());
+        };
+    }
+
+    private static Message message(long sellerId, long reservationId) {
+        String body = String.format(
+                "{\"type\":\"CREATED\",\"reservationId\":%d,\"productId\":1,\"sellerId\":%d,\"status\":\"PENDING\"}",
+                reservationId, sellerId);
+        return new DefaultMessage(ReservationEventPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
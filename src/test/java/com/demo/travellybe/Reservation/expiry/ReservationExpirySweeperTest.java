@@ -0,0 +1,119 @@
+package com.demo.travellybe.Reservation.expiry;
+
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.dto.ReservationCreateDto;
+import com.demo.travellybe.Reservation.dto.ReservationTicketDto;
+import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import com.demo.travellybe.Reservation.service.ReservationService;
+import com.demo.travellybe.member.domain.Member;
+import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.demo.travellybe.product.ProductFixtures.allDayProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "reservation.expiry.chunk-size=" + ReservationExpirySweeperTest.CHUNK_SIZE)
+class ReservationExpirySweeperTest {
+
+    static final int CHUNK_SIZE = 7;
+    // 청크 크기의 배수가 아니고 날짜 경계가 청크 중간에 오도록 함
+    private static final int PAST_DAYS = 3;
+    private static final int PER_DAY = 5;
+    private static final int FUTURE = 5;
+
+    @Autowired private ReservationExpirySweeper reservationExpirySweeper;
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private PendingReservationCounters pendingReservationCounters;
+
+    Member seller;
+    Member buyer;
+    Product product;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.builder()
+                .email("seller@email.com").password("sellerPW").nickname("seller")
+                .build());
+        buyer = memberRepository.save(Member.builder()
+                .email("buyer@email.com").password("buyerPW").nickname("buyer")
+                .build());
+
+        product = allDayProduct(seller, "product", 100, LocalDate.now().plusDays(1));
+        productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll(reservationRepository.findByProductId(product.getId()));
+        productRepository.deleteById(product.getId());
+        memberRepository.delete(buyer);
+        memberRepository.delete(seller);
+    }
+
+    @Test
+    @DisplayName("지난 대기 예약 만료 - 청크 크기보다 많아도 모두 만료되고 다른 예약은 바뀌지 않음")
+    void sweep_chunks() {
+        // given
+        LocalDate today = LocalDate.now();
+        for (int day = 1; day <= PAST_DAYS; day++) {
+            for (int i = 0; i < PER_DAY; i++) reserve(today.minusDays(day));
+        }
+        Long canceledId = reserve(today.minusDays(1));
+        reservationService.cancelReservation(canceledId);
+        Long todayId = reserve(today);
+        for (int i = 0; i < FUTURE; i++) reserve(today.plusDays(1));
+
+        // when
+        reservationExpirySweeper.sweep();
+
+        // then
+        Map<ReservationStatus, Long> statuses = reservationRepository.findByProductId(product.getId()).stream()
+                .collect(Collectors.groupingBy(Reservation::getStatus, Collectors.counting()));
+        assertThat(statuses)
+                .containsEntry(ReservationStatus.EXPIRED, (long) PAST_DAYS * PER_DAY)
+                .containsEntry(ReservationStatus.CANCELED, 1L)
+                .containsEntry(ReservationStatus.PENDING, (long) FUTURE + 1);
+        Map<Long, ReservationStatus> byId = reservationRepository.findByProductId(product.getId()).stream()
+                .collect(Collectors.toMap(Reservation::getId, Reservation::getStatus));
+        // 오늘 예약은 지난 예약이 아님
+        assertThat(byId.get(todayId)).isEqualTo(ReservationStatus.PENDING);
+        // 만료된 예약만큼 대기 예약 수가 줄어듦
+        assertThat(pendingReservationCounters.getProductCounts(List.of(product.getId())))
+                .containsEntry(product.getId(), FUTURE + 1);
+    }
+
+    private Long reserve(LocalDate date) {
+        return reservationService.createReservation(buyer.getId(), product.getId(), reservationCreateDto(date)).getId();
+    }
+
+    private ReservationCreateDto reservationCreateDto(LocalDate date) {
+        ReservationTicketDto ticketDto = new ReservationTicketDto();
+        ticketDto.setTicketId(product.getTickets().get(0).getId());
+        ticketDto.setQuantity(1);
+
+        ReservationCreateDto reservationCreateDto = new ReservationCreateDto();
+        reservationCreateDto.setName("buyer");
+        reservationCreateDto.setPhone("01012345678");
+        reservationCreateDto.setEmail("buyer@email.com");
+        reservationCreateDto.setDate(date);
+        reservationCreateDto.setTicketDtos(List.of(ticketDto));
+        return reservationCreateDto;
+    }
+}
@@ -0,0 +1,125 @@
+package com.demo.travellybe.Reservation.idempotency;
+
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ReservationIdempotencyTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String SCOPE = "create:1";
+    private static final int REQUESTS = 20;
+
+    @Autowired private ReservationIdempotency reservationIdempotency;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
+
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("idempotency:reservation:" + MEMBER_ID + ":" + idempotencyKey);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재시도 - 다시 처리하지 않고 저장된 응답을 돌려줌")
+    void execute_replay() {
+        // given
+        AtomicInteger processed = new AtomicInteger();
+        String first = reservationIdempotency.execute(MEMBER_ID, idempotencyKey, SCOPE, Map.of("quantity", 1),
+                String.class, () -> "reservation-" + processed.incrementAndGet());
+
+        // when
+        String retried = reservationIdempotency.execute(MEMBER_ID, idempotencyKey, SCOPE, Map.of("quantity", 1),
+                String.class, () -> "reservation-" + processed.incrementAndGet());
+
+        // then
+        assertThat(retried).isEqualTo(first);
+        assertThat(processed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 요청에 같은 Idempotency-Key 재사용 - 처리하지 않고 R004")
+    void execute_reusedKey() {
+        // given
+        AtomicInteger processed = new AtomicInteger();
+        reservationIdempotency.execute(MEMBER_ID, idempotencyKey, SCOPE, Map.of("quantity", 1),
+                String.class, () -> "reservation-" + processed.incrementAndGet());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationIdempotency.execute(MEMBER_ID, idempotencyKey, SCOPE, Map.of("quantity", 2),
+                        String.class, () -> "reservation-" + processed.incrementAndGet()));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.RESERVATION_IDEMPOTENCY_KEY_REUSED.getCode());
+        assertThat(processed.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 동시 요청 - 한 번만 처리하고 나머지는 저장된 응답 또는 R005")
+    void execute_concurrent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger inProgress = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    String response = reservationIdempotency.execute(MEMBER_ID, idempotencyKey, SCOPE,
+                            Map.of("quantity", 1), String.class, () -> {
+                                processed.incrementAndGet();
+                                sleep();
+                                return "reservation";
+                            });
+                    if (response.equals("reservation")) succeeded.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getCode().equals(ErrorCode.RESERVATION_REQUEST_IN_PROGRESS.getCode())) inProgress.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(processed.get()).isEqualTo(1);
+        assertThat(succeeded.get() + inProgress.get()).isEqualTo(REQUESTS);
+        assertThat(inProgress.get()).isPositive();
+    }
+
+    // 처리 중에 다른 요청이 잠금을 만나도록 처리 시간을 늘림
+    private static void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.demo.travellybe.Reservation.service;
+
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.dto.ReservationCreateDto;
+import com.demo.travellybe.Reservation.dto.ReservationTicketDto;
+import com.demo.travellybe.Reservation.hold.ReservationHoldManager;
+import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import com.demo.travellybe.exception.CustomException;
+import com.demo.travellybe.exception.ErrorCode;
+import com.demo.travellybe.member.domain.Member;
+import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.point.service.PointService;
+import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.ProductCapacity;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
+import com.demo.travellybe.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.demo.travellybe.product.ProductFixtures.allDayProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ReservationConcurrencyTest {
+
+    private static final int QUANTITY = 100;
+    private static final int BUYERS = 300;
+    private static final int HOLDS = 50;
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductCapacityRepository productCapacityRepository;
+    @Autowired private PointService pointService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private PendingReservationCounters pendingReservationCounters;
+    @Autowired private ReservationHoldManager reservationHoldManager;
+
+    Member seller;
+    List<Member> buyers = new ArrayList<>();
+    Product product;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.builder()
+                .email("seller@email.com").password("sellerPW").nickname("seller")
+                .build());
+        for (int i = 0; i < BUYERS; i++) {
+            buyers.add(memberRepository.save(Member.builder()
+                    .email("buyer" + i + "@email.com").password("buyerPW").nickname("buyer" + i)
+                    .build()));
+        }
+
+        product = allDayProduct(seller, "product", QUANTITY, LocalDate.now().plusDays(1));
+        productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll(reservationRepository.findByProductId(product.getId()));
+        productRepository.deleteById(product.getId());
+        memberRepository.deleteAll(buyers);
+        memberRepository.delete(seller);
+    }
+
+    @Test
+    @DisplayName("동시 예약 - 날짜별 정원보다 많이 판매되지 않음")
+    void createReservation_concurrent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BUYERS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        // when
+        for (Member buyer : buyers) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    reservationService.createReservation(buyer.getId(), product.getId(), reservationCreateDto());
+                    succeeded.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getCode().equals(ErrorCode.PRODUCT_NOT_ENOUGH_TICKET_QUANTITY.getCode())) soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(QUANTITY);
+        assertThat(soldOut.get()).isEqualTo(BUYERS - QUANTITY);
+        LocalDate date = LocalDate.now().plusDays(1);
+        assertThat(productCapacityRepository.findByProductIdAndDateBetween(product.getId(), date, date))
+                .singleElement()
+                .satisfies(capacity -> {
+                    assertThat(capacity.getStartTime()).isEqualTo(ProductCapacity.ALL_DAY);
+                    assertThat(capacity.getReserved()).isEqualTo(QUANTITY);
+                });
+        assertThat(reservationRepository.findByProductId(product.getId())).hasSize(QUANTITY);
+        // 대기 예약 수가 유실 없이 모두 반영됨
+        assertThat(pendingReservationCounters.getProductCounts(List.of(product.getId())))
+                .containsEntry(product.getId(), QUANTITY);
+        assertThat(pendingReservationCounters.getSellerCount(seller.getId())).isEqualTo(QUANTITY);
+        // 판매 수익이 유실 없이 모두 적립됨
+        assertThat(pointService.getBalance(seller.getId())).isEqualTo(seller.getPoint() + QUANTITY * 1000);
+    }
+
+    @Test
+    @DisplayName("예약 취소 - 이미 취소된 예약은 다시 환불, 수량 반환하지 않음")
+    void cancelReservation_twice() {
+        // given
+        Member buyer = buyers.get(0);
+        Long reservationId = reservationService.createReservation(buyer.getId(), product.getId(), reservationCreateDto()).getId();
+        reservationService.cancelReservation(reservationId);
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.cancelReservation(reservationId));
+
+        // then
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.RESERVATION_INVALID_STATUS.getCode());
+        LocalDate date = LocalDate.now().plusDays(1);
+        assertThat(productCapacityRepository.findByProductIdAndDateBetween(product.getId(), date, date))
+                .singleElement()
+                .satisfies(capacity -> assertThat(capacity.getReserved()).isZero());
+        // 결제 금액만큼 한 번만 환불됨
+        assertThat(pointService.getBalance(buyer.getId())).isEqualTo(buyer.getPoint());
+        // 취소된 예약은 다시 수락할 수 없음
+        CustomException acceptException = assertThrows(CustomException.class,
+                () -> reservationService.updateStatus(reservationId, ReservationStatus.ACCEPTED));
+        assertThat(acceptException.getCode()).isEqualTo(ErrorCode.RESERVATION_INVALID_STATUS.getCode());
+    }
+
+    @Test
+    @DisplayName("홀드 확정과 만료 동시 처리 - 둘 중 하나만 성공하고 수량은 한 번만 반환됨")
+    void confirmHold_racingExpiry() throws InterruptedException {
+        // given
+        List<String> holdIds = new ArrayList<>();
+        for (int i = 0; i < HOLDS; i++) {
+            holdIds.add(reservationService.holdReservation(buyers.get(i).getId(), product.getId(), reservationCreateDto())
+                    .getHoldId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(HOLDS * 2);
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger expired = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < HOLDS; i++) {
+            Member buyer = buyers.get(i);
+            String holdId = holdIds.get(i);
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    reservationService.confirmHold(buyer.getId(), holdId);
+                    confirmed.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getCode().equals(ErrorCode.RESERVATION_HOLD_NOT_FOUND.getCode())) expired.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            // 타이밍 휠에서 만료 시각에 실행되는 만료 처리를 바로 실행
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    ReflectionTestUtils.invokeMethod(reservationHoldManager, "expire", holdId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(confirmed.get() + expired.get()).isEqualTo(HOLDS);
+        // 만료된 홀드의 수량만 반환되고 확정된 예약의 수량은 남음
+        LocalDate date = LocalDate.now().plusDays(1);
+        assertThat(productCapacityRepository.findByProductIdAndDateBetween(product.getId(), date, date))
+                .singleElement()
+                .satisfies(capacity -> assertThat(capacity.getReserved()).isEqualTo(confirmed.get()));
+        assertThat(reservationRepository.findByProductId(product.getId())).hasSize(confirmed.get());
+        // 이미 처리된 홀드는 다시 확정할 수 없음
+        CustomException exception = assertThrows(CustomException.class,
+                () -> reservationService.confirmHold(buyers.get(0).getId(), holdIds.get(0)));
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.RESERVATION_HOLD_NOT_FOUND.getCode());
+    }
+
+    private ReservationCreateDto reservationCreateDto() {
+        ReservationTicketDto ticketDto = new ReservationTicketDto();
+        ticketDto.setTicketId(product.getTickets().get(0).getId());
+        ticketDto.setQuantity(1);
+
+        ReservationCreateDto reservationCreateDto = new ReservationCreateDto();
+        reservationCreateDto.setName("buyer");
+        reservationCreateDto.setPhone("01012345678");
+        reservationCreateDto.setEmail("buyer@email.com");
+        reservationCreateDto.setDate(LocalDate.now().plusDays(1));
+        reservationCreateDto.setTicketDtos(List.of(ticketDto));
+        return reservationCreateDto;
+    }
+}
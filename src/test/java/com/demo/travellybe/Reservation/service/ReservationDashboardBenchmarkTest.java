@@ -0,0 +1,108 @@
+package com.demo.travellybe.Reservation.service;
+
+import com.demo.travellybe.Reservation.domain.Reservation;
+import com.demo.travellybe.Reservation.domain.ReservationStatus;
+import com.demo.travellybe.Reservation.dto.PendingReservationsPerProductDto;
+import com.demo.travellybe.Reservation.repository.ReservationRepository;
+import com.demo.travellybe.member.domain.Member;
+import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.demo.travellybe.product.ProductFixtures.allDayProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+class ReservationDashboardBenchmarkTest {
+
+    private static final int PRODUCTS = 200;
+    private static final int RESERVATIONS_PER_PRODUCT = 250;
+    // 상품마다 마지막 PENDING_PER_PRODUCT개의 예약만 대기 상태, 나머지는 수락됨
+    private static final int PENDING_PER_PRODUCT = 3;
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private MemberRepository memberRepository;
+
+    Member seller;
+    Member buyer;
+    List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.builder()
+                .email("dashboard-seller@email.com").password("sellerPW").nickname("dashboardSeller")
+                .build());
+        buyer = memberRepository.save(Member.builder()
+                .email("dashboard-buyer@email.com").password("buyerPW").nickname("dashboardBuyer")
+                .build());
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = allDayProduct(seller, "product" + i, 10, LocalDate.now().plusDays(1));
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+
+        // 예약 이력을 직접 저장 (수량, 포인트 처리는 측정 대상이 아님)
+        for (Product product : products) {
+            List<Reservation> reservations = new ArrayList<>();
+            for (int i = 0; i < RESERVATIONS_PER_PRODUCT; i++) {
+                Reservation reservation = Reservation.of(product, buyer, "buyer", "01012345678", "buyer@email.com",
+                        LocalDate.now().minusDays(RESERVATIONS_PER_PRODUCT - i), null, 1000 + i, 1);
+                if (i < RESERVATIONS_PER_PRODUCT - PENDING_PER_PRODUCT) reservation.setStatus(ReservationStatus.ACCEPTED);
+                reservations.add(reservation);
+            }
+            reservationRepository.saveAll(reservations);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Product product : products) {
+            reservationRepository.deleteAllInBatch(reservationRepository.findByProductId(product.getId()));
+        }
+        productRepository.deleteAll(products);
+        memberRepository.delete(buyer);
+        memberRepository.delete(seller);
+    }
+
+    @Test
+    @DisplayName("판매자 상품별 예약 현황 - 상품, 예약이 많은 판매자")
+    void getProductsBySellerId_largeSeller() {
+        // warm up
+        reservationService.getProductsBySellerId(seller.getId());
+
+        // when
+        long start = System.nanoTime();
+        List<PendingReservationsPerProductDto> result = reservationService.getProductsBySellerId(seller.getId());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("상품 {}개, 예약 {}건 판매자 예약 현황 조회: {}ms",
+                PRODUCTS, PRODUCTS * RESERVATIONS_PER_PRODUCT, elapsedMillis);
+
+        // then
+        assertThat(result).hasSize(PRODUCTS);
+        assertThat(result).allSatisfy(dto -> {
+            assertThat(dto.getReservationCount()).isEqualTo(RESERVATIONS_PER_PRODUCT);
+            assertThat(dto.getPendingReservationCount()).isEqualTo(PENDING_PER_PRODUCT);
+            // 가장 최근 예약의 가격과 날짜
+            assertThat(dto.getPrice()).isEqualTo(1000 + RESERVATIONS_PER_PRODUCT - 1);
+            assertThat(dto.getDate()).isEqualTo(LocalDate.now().minusDays(1));
+            assertThat(dto.getProductImages()).isNotNull();
+        });
+    }
+}
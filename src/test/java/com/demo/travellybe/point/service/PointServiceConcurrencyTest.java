@@ -0,0 +1,115 @@
+package com.demo.travellybe.point.service;
+
+import com.demo.travellybe.member.domain.Member;
+import com.demo.travellybe.member.repository.MemberRepository;
+import com.demo.travellybe.point.domain.PointTransaction;
+import com.demo.travellybe.point.domain.PointTransactionType;
+import com.demo.travellybe.point.repository.PointTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PointServiceConcurrencyTest {
+
+    private static final int PAYMENTS = 50;
+    private static final int REFUNDS = 50;
+    private static final int COMPACTIONS = 20;
+    private static final int PRICE = 1000;
+    private static final int REFUND = 300;
+
+    @Autowired private PointService pointService;
+    @Autowired private PointTransactionRepository pointTransactionRepository;
+    @Autowired private MemberRepository memberRepository;
+
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("point@email.com").password("pointPW").nickname("point")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointTransactionRepository.deleteAll(ledger());
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("동시 결제, 적립, 반영 - 잔액이 유실되거나 두 번 반영되지 않음")
+    void payAndCompact_concurrent() throws InterruptedException {
+        // given
+        int initialBalance = pointService.getBalance(member.getId());
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(PAYMENTS + REFUNDS + COMPACTIONS);
+        AtomicInteger paid = new AtomicInteger();
+        AtomicInteger refunded = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < PAYMENTS; i++) {
+            submit(executor, ready, done, () -> {
+                pointService.pay(member.getId(), null, PointTransactionType.RESERVATION_PAYMENT, PRICE);
+                paid.incrementAndGet();
+            });
+        }
+        for (int i = 0; i < REFUNDS; i++) {
+            submit(executor, ready, done, () -> {
+                pointService.record(member.getId(), null, PointTransactionType.RESERVATION_REFUND, REFUND);
+                refunded.incrementAndGet();
+            });
+        }
+        for (int i = 0; i < COMPACTIONS; i++) {
+            submit(executor, ready, done, () -> pointService.compact(member.getId()));
+        }
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        pointService.compact(member.getId());
+
+        // then
+        int expectedBalance = initialBalance - paid.get() * PRICE + refunded.get() * REFUND;
+        assertThat(paid.get()).isPositive();
+        assertThat(pointService.getBalance(member.getId())).isEqualTo(expectedBalance);
+        // 모든 내역이 한 번씩만 Member.point에 반영됨
+        assertThat(pointTransactionRepository.existsByMemberIdAndCompactedFalse(member.getId())).isFalse();
+        assertThat(memberRepository.findPointById(member.getId())).contains(expectedBalance);
+        assertThat(ledger().stream().mapToInt(PointTransaction::getAmount).sum())
+                .isEqualTo(expectedBalance - initialBalance);
+    }
+
+    // 실패한 작업(잠금 대기 시간 초과 등)은 트랜잭션 전체가 롤백되므로 세지 않음
+    private void submit(ExecutorService executor, CountDownLatch ready, CountDownLatch done, Runnable task) {
+        executor.submit(() -> {
+            try {
+                ready.await();
+                task.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException ignored) {
+            } finally {
+                done.countDown();
+            }
+        });
+    }
+
+    private List<PointTransaction> ledger() {
+        return pointTransactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getMemberId().equals(member.getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.travellybe.product;
+
+import com.demo.travellybe.member.domain.Member;
+import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.dto.OperationDayDto;
+import com.demo.travellybe.product.dto.OperationDayHourDto;
+import com.demo.travellybe.product.dto.ProductImageDto;
+import com.demo.travellybe.product.dto.TicketDto;
+import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 상품 생성 요청과 상품.
+ */
+public final class ProductFixtures {
+
+    private ProductFixtures() {
+    }
+
+    /**
+     * startDate부터 days일 동안 운영하는 상품 생성 요청 (운영일 하나에 운영 시간 3개, 성인/아동 티켓).
+     * shift만큼 마지막 운영 시간을 바꾼다.
+     */
+    public static ProductCreateRequestDto scheduledProductRequest(LocalDate startDate, int days, int shift) {
+        List<OperationDayDto> operationDayDtos = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            operationDayDtos.add(day(startDate.plusDays(i), shift));
+        }
+
+        List<TicketDto> ticketDtos = new ArrayList<>();
+        ticketDtos.add(TicketDto.builder().name("성인").price(10000).build());
+        ticketDtos.add(TicketDto.builder().name("아동").price(5000).build());
+
+        List<ProductImageDto> productImageDtos = new ArrayList<>();
+        productImageDtos.add(ProductImageDto.builder().url("상품 이미지 URL").order(0).build());
+
+        return ProductCreateRequestDto.builder()
+                .name("product").type("type")
+                .description("description").images(productImageDtos)
+                .address("address").detailAddress("detailAddress")
+                .phoneNumber("phoneNumber").homepage("homepage")
+                .cityCode("cityCode").quantity(100)
+                .tickets(ticketDtos)
+                .operationDays(operationDayDtos)
+                .build();
+    }
+
+    // 운영 시간 3개 (09-12, 13-15, 16-18시, 마지막 시간만 shift만큼 이동)
+    public static OperationDayDto day(LocalDate date, int shift) {
+        List<OperationDayHourDto> hours = new ArrayList<>();
+        hours.add(hour(9, 0, 12, 0));
+        hours.add(hour(13, 0, 15, 0));
+        hours.add(hour(16 + shift, 0, 18 + shift, 0));
+        return OperationDayDto.builder().date(date).operationDayHours(hours).build();
+    }
+
+    public static OperationDayHourDto hour(int startHour, int startMinute, int endHour, int endMinute) {
+        return OperationDayHourDto.builder()
+                .startTime(LocalTime.of(startHour, startMinute))
+                .endTime(LocalTime.of(endHour, endMinute))
+                .build();
+    }
+
+    /**
+     * date 하루만 운영 시간 없이 운영하는 판매자의 상품 (1000원 성인 티켓 하나). 저장하지 않는다.
+     */
+    public static Product allDayProduct(Member seller, String name, int quantity, LocalDate date) {
+        List<TicketDto> ticketDtos = new ArrayList<>();
+        ticketDtos.add(TicketDto.builder().name("성인").price(1000).build());
+        List<OperationDayDto> operationDayDtos = new ArrayList<>();
+        operationDayDtos.add(OperationDayDto.builder().date(date).operationDayHours(null).build());
+
+        Product product = Product.of(ProductCreateRequestDto.builder()
+                .name(name).type("12")
+                .description("description").images(new ArrayList<>())
+                .address("address").phoneNumber("01012345678")
+                .cityCode("1").quantity(quantity)
+                .tickets(ticketDtos)
+                .operationDays(operationDayDtos)
+                .build());
+        product.setMember(seller);
+        return product;
+    }
+}
@@ -0,0 +1,63 @@
+package com.demo.travellybe.product.domain;
+
+import com.demo.travellybe.product.dto.OperationRuleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationRuleTest {
+
+    // 2024-07-01은 월요일
+    private static final LocalDate START_DATE = LocalDate.of(2024, 7, 1);
+
+    @Test
+    @DisplayName("운영 날짜 - 지정한 요일만, 제외 날짜는 빼고 펼침")
+    void getOperationDates_daysOfWeekAndExcludedDates() {
+        OperationRule rule = rule(START_DATE, START_DATE.plusDays(13),
+                List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), List.of(START_DATE.plusDays(2)));
+
+        assertThat(rule.getOperationDates())
+                .containsExactly(START_DATE, START_DATE.plusDays(7), START_DATE.plusDays(9));
+        assertThat(rule.isOperatingOn(START_DATE.plusDays(2))).isFalse();
+        assertThat(rule.isOperatingOn(START_DATE.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("운영 날짜 - 요일을 지정하지 않으면 매일")
+    void getOperationDates_allDays() {
+        OperationRule rule = rule(START_DATE, START_DATE.plusDays(6), List.of(), List.of());
+
+        assertThat(rule.getOperationDates()).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("운영 날짜 - 조회 기간 안의 날짜만 펼침")
+    void getOperationDates_window() {
+        OperationRule rule = rule(START_DATE, START_DATE.plusDays(300), List.of(DayOfWeek.MONDAY), List.of());
+
+        assertThat(rule.getOperationDates(START_DATE.minusDays(10), START_DATE.plusDays(10)))
+                .containsExactly(START_DATE, START_DATE.plusDays(7));
+        assertThat(rule.getOperationDates(START_DATE.plusDays(301), START_DATE.plusDays(400))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("운영 날짜 - 기간이 긴 규칙도 MAX_PERIOD_DAYS까지만 펼침")
+    void getOperationDates_maxPeriod() {
+        OperationRule rule = rule(START_DATE, START_DATE.plusYears(10), List.of(), List.of());
+
+        assertThat(rule.getOperationDates()).hasSize(OperationRule.MAX_PERIOD_DAYS);
+    }
+
+    private OperationRule rule(LocalDate startDate, LocalDate endDate, List<DayOfWeek> daysOfWeek, List<LocalDate> excludedDates) {
+        return OperationRule.of(OperationRuleDto.builder()
+                .startDate(startDate).endDate(endDate)
+                .daysOfWeek(daysOfWeek)
+                .excludedDates(excludedDates)
+                .build(), null);
+    }
+}
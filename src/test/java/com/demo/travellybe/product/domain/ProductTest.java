@@ -0,0 +1,110 @@
+package com.demo.travellybe.product.domain;
+
+import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.demo.travellybe.product.ProductFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("상품 수정 - 바뀐 운영일, 운영 시간, 티켓만 교체")
+    void update_keepsUnchangedElements() {
+        // given
+        Product product = Product.of(scheduledProductRequest(START_DATE, 10, 0));
+        assignIds(product);
+        OperationDay firstDay = product.getOperationDays().get(0);
+        OperationDay secondDay = product.getOperationDays().get(1);
+        OperationHour firstDayHour = firstDay.getOperationHours().get(0);
+        OperationHour secondDayHour = secondDay.getOperationHours().get(0);
+        Ticket adultTicket = product.getTickets().get(0);
+        Ticket childTicket = product.getTickets().get(1);
+
+        // 두 번째 날의 운영 시간과 성인 티켓 가격만 변경, 마지막 날 삭제, 새 날짜 추가
+        ProductCreateRequestDto updateRequestDto = scheduledProductRequest(START_DATE, 10, 0);
+        updateRequestDto.getOperationDays().get(1).setOperationDayHours(List.of(hour(10, 0, 11, 0)));
+        updateRequestDto.getOperationDays().remove(9);
+        updateRequestDto.getOperationDays().add(day(START_DATE.plusDays(100), 0));
+        updateRequestDto.getTickets().get(0).setPrice(20000);
+
+        // when
+        product.update(updateRequestDto);
+
+        // then
+        assertThat(product.getOperationDays()).hasSize(10);
+        assertThat(product.getOperationDays().get(0)).isSameAs(firstDay);
+        assertThat(firstDay.getId()).isEqualTo(1L);
+        assertThat(firstDay.getOperationHours()).hasSize(3);
+        assertThat(firstDay.getOperationHours().get(0)).isSameAs(firstDayHour);
+        assertThat(firstDayHour.getId()).isEqualTo(1L);
+        assertThat(product.getOperationDays()).noneMatch(day -> day.getDate().equals(START_DATE.plusDays(9)));
+
+        // 운영일은 유지하고 바뀐 운영 시간만 새 엔티티로 교체
+        assertThat(product.getOperationDays().get(1)).isSameAs(secondDay);
+        assertThat(secondDay.getId()).isEqualTo(2L);
+        assertThat(secondDay.getOperationHours()).hasSize(1);
+        assertThat(secondDay.getOperationHours().get(0)).isNotSameAs(secondDayHour);
+        assertThat(secondDay.getOperationHours().get(0).getId()).isNull();
+        assertThat(secondDay.getOperationHours().get(0).getStartTime()).isEqualTo(LocalTime.of(10, 0));
+
+        // 새 날짜만 새 엔티티
+        assertThat(product.getOperationDays()).filteredOn(day -> day.getId() == null)
+                .extracting(OperationDay::getDate)
+                .containsExactly(START_DATE.plusDays(100));
+
+        assertThat(product.getTickets().get(0)).isSameAs(adultTicket);
+        assertThat(adultTicket.getId()).isEqualTo(1L);
+        assertThat(adultTicket.getPrice()).isEqualTo(20000);
+        assertThat(product.getTickets().get(1)).isSameAs(childTicket);
+        assertThat(childTicket.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상품 수정 - 바뀐 내용이 없으면 모든 운영일, 운영 시간, 티켓 유지")
+    void update_noChanges() {
+        // given
+        Product product = Product.of(scheduledProductRequest(START_DATE, 10, 0));
+        assignIds(product);
+        List<OperationDay> operationDays = new ArrayList<>(product.getOperationDays());
+        List<OperationHour> operationHours = operationDays.stream()
+                .flatMap(day -> day.getOperationHours().stream())
+                .toList();
+        List<Ticket> tickets = new ArrayList<>(product.getTickets());
+
+        // when
+        product.update(scheduledProductRequest(START_DATE, 10, 0));
+
+        // then
+        assertThat(product.getOperationDays()).containsExactlyElementsOf(operationDays);
+        assertThat(product.getOperationDays().stream().flatMap(day -> day.getOperationHours().stream()))
+                .containsExactlyElementsOf(operationHours);
+        assertThat(product.getTickets()).containsExactlyElementsOf(tickets);
+        assertThat(product.getOperationDays()).allMatch(day -> day.getId() != null);
+    }
+
+    // 저장된 상품처럼 운영일, 운영 시간, 티켓에 순서대로 ID 부여
+    private void assignIds(Product product) {
+        long dayId = 1L;
+        long hourId = 1L;
+        for (OperationDay operationDay : product.getOperationDays()) {
+            ReflectionTestUtils.setField(operationDay, "id", dayId++);
+            for (OperationHour operationHour : operationDay.getOperationHours()) {
+                ReflectionTestUtils.setField(operationHour, "id", hourId++);
+            }
+        }
+        long ticketId = 1L;
+        for (Ticket ticket : product.getTickets()) {
+            ReflectionTestUtils.setField(ticket, "id", ticketId++);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.demo.travellybe.product.domain;
+
+import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static com.demo.travellybe.product.ProductFixtures.scheduledProductRequest;
+
+/**
+ * 상품 수정 시간 측정용 벤치마크. 실행 시간은 환경에 따라 달라지므로 결과를 검증하지 않고 기록만 하며,
+ * 기본 test 작업에서는 제외된다 (gradle benchmark로 실행). 수정 결과의 검증은 ProductTest에서 한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class ProductUpdateBenchmarkTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("상품 수정 - 운영일 수에 따른 시간")
+    void update_scalesLinearly() {
+        long small = measure(500);
+        long large = measure(5000);
+
+        // 운영일이 10배일 때 선형이면 약 10배, 기존 중첩 반복문은 약 100배
+        log.info("상품 수정 시간: 운영일 500개 {}us, 5000개 {}us ({}배)", small / 1000, large / 1000, (double) large / small);
+    }
+
+    private long measure(int days) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            Product product = Product.of(scheduledProductRequest(START_DATE, days, 0));
+            ProductCreateRequestDto updateRequestDto = scheduledProductRequest(START_DATE, days, 1);
+
+            long start = System.nanoTime();
+            product.update(updateRequestDto);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,72 @@
+package com.demo.travellybe.product.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamSummaryTest {
+
+    @Test
+    @DisplayName("자리가 남아 있으면 정확한 횟수")
+    void offer_exactCounts() {
+        StreamSummary summary = new StreamSummary(3);
+        offer(summary, "제주", 3);
+        offer(summary, "서울", 2);
+        offer(summary, "부산", 1);
+
+        assertThat(summary.drainGuaranteedCounts()).isEqualTo(Map.of("제주", 3L, "서울", 2L, "부산", 1L));
+        assertThat(summary.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("꽉 차면 가장 적게 나온 항목을 대체하고, 확실한 횟수는 오차를 뺀 값")
+    void offer_replacesMinimum() {
+        StreamSummary summary = new StreamSummary(2);
+        offer(summary, "제주", 3);
+        offer(summary, "서울", 2);
+
+        // 서울(2)이 대체되어 부산은 추정 4, 오차 2
+        offer(summary, "부산", 2);
+        // 제주(3)가 가장 적으므로 대체되어 강릉은 추정 4, 오차 3
+        offer(summary, "강릉", 1);
+
+        assertThat(summary.size()).isEqualTo(2);
+        assertThat(summary.drainGuaranteedCounts()).isEqualTo(Map.of("부산", 2L, "강릉", 1L));
+    }
+
+    @Test
+    @DisplayName("add - 자리가 없으면 다른 항목을 대체하지 않음")
+    void add_withoutEviction() {
+        StreamSummary summary = new StreamSummary(2);
+        offer(summary, "제주", 1);
+        summary.add("제주", 10);
+        summary.add("서울", 5);
+        summary.add("부산", 100);
+        offer(summary, "서울", 1);
+
+        assertThat(summary.drainGuaranteedCounts()).isEqualTo(Map.of("제주", 11L, "서울", 6L));
+    }
+
+    @Test
+    @DisplayName("많은 항목 - 자주 나온 항목은 확실한 횟수가 남음")
+    void offer_heavyHitters() {
+        StreamSummary summary = new StreamSummary(10);
+        for (int i = 0; i < 1000; i++) {
+            summary.offer("인기");
+            summary.offer("검색어" + i);
+        }
+
+        Map<String, Long> counts = summary.drainGuaranteedCounts();
+        assertThat(counts.get("인기")).isGreaterThan(0L);
+        assertThat(counts.values()).allMatch(count -> count > 0);
+    }
+
+    private void offer(StreamSummary summary, String item, int times) {
+        for (int i = 0; i < times; i++) {
+            summary.offer(item);
+        }
+    }
+}
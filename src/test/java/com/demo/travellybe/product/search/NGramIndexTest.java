@@ -0,0 +1,74 @@
+package com.demo.travellybe.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramIndexTest {
+
+    private static final int MAX_CANDIDATES = 10;
+
+    NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex(64);
+        index.index(1L, "제주 올레길 걷기", "바다를 보며 걷는 코스", "제주시");
+        index.index(2L, "서울 야경 투어", "남산 타워", "서울특별시");
+        index.index(3L, "Jeju Bike", null, "제주시");
+    }
+
+    @Test
+    @DisplayName("검색 - 키워드의 2-gram을 모두 가진 상품만 후보")
+    void search_bigrams() {
+        assertThat(index.search("제주", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 3L));
+        assertThat(index.search("올레길", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(index.search("부산", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색 - 한 글자 키워드는 1-gram, 대소문자 구분 없음")
+    void search_unigramAndCase() {
+        assertThat(index.search("야", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(index.search("BIKE", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 - 이전 n-gram이 남지 않음")
+    void indexAndRemove_replacePreviousGrams() {
+        index.index(1L, "부산 해운대", null, "부산광역시");
+        assertThat(index.search("제주", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(index.search("부산", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+
+        index.remove(1L);
+        assertThat(index.search("부산", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("n-gram이 너무 많은 상품 - 색인하지 않고 모든 검색의 후보에 포함")
+    void index_tooManyGrams() {
+        index.index(4L, "긴 설명", "가나다라마바사아자차카타파하거너더러머버서어저처커터퍼허고노도로모보소오조초코토포호구누두루무부수우주추쿠투푸후", null);
+
+        assertThat(index.contains(4L)).isTrue();
+        assertThat(index.search("서울", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(2L, 4L));
+        assertThat(index.search("없는키워드", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(4L));
+
+        index.remove(4L);
+        assertThat(index.search("서울", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("검색 - 후보가 너무 많으면 빈 Optional")
+    void search_tooManyCandidates() {
+        for (long id = 10; id < 10 + MAX_CANDIDATES; id++) {
+            index.index(id, "제주 투어 " + id, null, null);
+        }
+
+        assertThat(index.search("제주", MAX_CANDIDATES)).isEmpty();
+        assertThat(index.search("올레", MAX_CANDIDATES)).hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+}
@@ -0,0 +1,85 @@
+package com.demo.travellybe.product.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductAvailabilitiesTest {
+
+    private static final int MAX_CANDIDATES = 10;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    ProductAvailabilities availabilities;
+
+    @BeforeEach
+    void setUp() {
+        availabilities = new ProductAvailabilities();
+        // 1월 1일, 3일 09:00 ~ 18:00
+        availabilities.put(1L, ProductAvailability.of(List.of(START_DATE, START_DATE.plusDays(2)),
+                LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        // 2월 1일 ~ 3월 31일 14:00 ~ 16:00
+        availabilities.put(2L, ProductAvailability.of(
+                START_DATE.plusMonths(1).datesUntil(START_DATE.plusMonths(3)).toList(),
+                LocalTime.of(14, 0), LocalTime.of(16, 0)));
+        // 1월 2일, 시간 없음
+        availabilities.put(3L, ProductAvailability.of(List.of(START_DATE.plusDays(1)), null, null));
+    }
+
+    @Test
+    @DisplayName("날짜 검색 - 기간 안에 운영일이 있는 상품")
+    void search_date() {
+        assertThat(availabilities.search(START_DATE, START_DATE, null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+        assertThat(availabilities.search(START_DATE.plusDays(1), START_DATE.plusDays(1), null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(3L));
+        assertThat(availabilities.search(START_DATE.plusDays(3), START_DATE.plusDays(30), null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(availabilities.search(START_DATE, START_DATE.plusYears(1), null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("시간 검색 - 가장 늦은 시작 시간과 가장 이른 종료 시간이 범위 안인 상품")
+    void search_time() {
+        assertThat(availabilities.search(null, null, LocalTime.of(8, 0), LocalTime.of(20, 0), MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactlyInAnyOrder(1L, 2L));
+        assertThat(availabilities.search(null, null, LocalTime.of(13, 0), LocalTime.of(17, 0), MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+        assertThat(availabilities.search(START_DATE, START_DATE.plusYears(1), LocalTime.of(13, 0), LocalTime.of(17, 0), MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(2L));
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 - 이전 운영 일정이 검색되지 않음")
+    void putAndRemove_replacePreviousAvailability() {
+        availabilities.put(1L, ProductAvailability.of(List.of(START_DATE.plusYears(1)), LocalTime.of(9, 0), LocalTime.of(18, 0)));
+        assertThat(availabilities.search(START_DATE, START_DATE, null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(availabilities.search(START_DATE.plusYears(1), START_DATE.plusYears(1), null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+
+        availabilities.remove(2L);
+        assertThat(availabilities.search(null, null, LocalTime.of(13, 0), LocalTime.of(17, 0), MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).isEmpty());
+        assertThat(availabilities.productIds()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("검색 - 조건이 없거나 일치하는 상품이 너무 많으면 빈 Optional")
+    void search_noConditionOrTooManyCandidates() {
+        for (long id = 10; id < 10 + MAX_CANDIDATES; id++) {
+            availabilities.put(id, ProductAvailability.of(List.of(START_DATE.plusDays(1)), null, null));
+        }
+
+        assertThat(availabilities.search(null, null, null, null, MAX_CANDIDATES)).isEmpty();
+        assertThat(availabilities.search(START_DATE.plusDays(1), START_DATE.plusDays(1), null, null, MAX_CANDIDATES)).isEmpty();
+        assertThat(availabilities.search(START_DATE, START_DATE, null, null, MAX_CANDIDATES))
+                .hasValueSatisfying(ids -> assertThat(ids).containsExactly(1L));
+    }
+}
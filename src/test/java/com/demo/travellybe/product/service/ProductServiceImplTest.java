@@ -1,15 +1,22 @@
 package com.demo.travellybe.product.service;
 
+import com.demo.travellybe.Reservation.counter.PendingReservationCounters;
 import com.demo.travellybe.exception.CustomException;
 import com.demo.travellybe.exception.ErrorCode;
 import com.demo.travellybe.member.domain.Member;
 import com.demo.travellybe.member.repository.MemberRepository;
 import com.demo.travellybe.member.domain.Role;
+import com.demo.travellybe.product.cache.ProductDetailCache;
 import com.demo.travellybe.product.domain.Product;
+import com.demo.travellybe.product.domain.ProductCapacity;
 import com.demo.travellybe.product.dto.*;
 import com.demo.travellybe.product.dto.request.ProductCreateRequestDto;
 import com.demo.travellybe.product.dto.request.ProductsSearchRequestDto;
+import com.demo.travellybe.product.dto.response.DailyCapacityResponseDto;
 import com.demo.travellybe.product.dto.response.ProductResponseDto;
+import com.demo.travellybe.product.ranking.ProductViewCounter;
+import com.demo.travellybe.product.ranking.TopProductsMaterializer;
+import com.demo.travellybe.product.repository.ProductCapacityRepository;
 import com.demo.travellybe.product.repository.ProductRepository;
 import com.demo.travellybe.review.repository.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +30,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -39,10 +47,15 @@ import static org.mockito.Mockito.*;
 class ProductServiceImplTest {
 
     @Mock private ProductRepository productRepository;
+    @Mock private ProductCapacityRepository productCapacityRepository;
     @Mock private MemberRepository memberRepository;
     @Mock private ReviewRepository reviewRepository;
     @Mock private RedisTemplate<String, Object> redisTemplate;
     @Mock private ZSetOperations<String, Object> zSetOperations;
+    @Mock private ProductDetailCache productDetailCache;
+    @Mock private ProductViewCounter productViewCounter;
+    @Mock private TopProductsMaterializer topProductsMaterializer;
+    @Mock private PendingReservationCounters pendingReservationCounters;
     @InjectMocks private ProductServiceImpl productService;
 
     Member member1;
@@ -165,6 +178,41 @@ class ProductServiceImplTest {
         verify(memberRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("상품 등록 - 실패: 운영 규칙 기간이 너무 김")
+    void addProduct_fail_operationRulePeriod() {
+        // given
+        createRequestDto.setOperationRules(List.of(OperationRuleDto.builder()
+                .startDate(LocalDate.of(2024, 1, 1)).endDate(LocalDate.of(2025, 1, 1))
+                .build()));
+
+        // when
+        // then
+        CustomException exception = assertThrows(CustomException.class, () -> productService.addProduct(1L, createRequestDto));
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_OPERATION_RULE.getCode());
+
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("상품 등록 - 실패: 운영 규칙에 운영일이 없음")
+    void addProduct_fail_operationRuleWithoutDates() {
+        // given
+        // 2024-07-01(월) ~ 2024-07-02(화) 기간의 수요일, 월요일은 제외
+        createRequestDto.setOperationRules(List.of(OperationRuleDto.builder()
+                .startDate(LocalDate.of(2024, 7, 1)).endDate(LocalDate.of(2024, 7, 2))
+                .daysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY))
+                .excludedDates(List.of(LocalDate.of(2024, 7, 1)))
+                .build()));
+
+        // when
+        // then
+        CustomException exception = assertThrows(CustomException.class, () -> productService.addProduct(1L, createRequestDto));
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_OPERATION_RULE.getCode());
+
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
     @Test
     @DisplayName("상품 삭제 - 성공")
     void deleteProduct_success() {
@@ -176,6 +224,7 @@ class ProductServiceImplTest {
 
         // Then
         verify(productRepository, times(1)).findById(anyLong());
+        verify(pendingReservationCounters, times(1)).removeProduct(1L);
         verify(productRepository, times(1)).deleteById(anyLong());
     }
 
@@ -253,8 +302,6 @@ class ProductServiceImplTest {
         ReflectionTestUtils.setField(product, "id", 1L);
         ReflectionTestUtils.setField(product, "member", member1);
         when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
-        when(zSetOperations.incrementScore(any(), any(), anyDouble())).thenReturn(1.0);
         when(reviewRepository.countByProductId(product.getId())).thenReturn(0L);
 
         // when
@@ -265,7 +312,7 @@ class ProductServiceImplTest {
         assertThat(responseDto.getName()).isEqualTo(product.getName());
 
         verify(productRepository, times(1)).findById(product.getId());
-        verify(zSetOperations, times(1)).incrementScore("popular_products", String.valueOf(product.getId()), 1);
+        verify(productViewCounter, times(1)).increment(product.getId());
     }
 
     @Test
@@ -329,6 +376,71 @@ class ProductServiceImplTest {
         verify(productRepository, times(1)).findById(product.getId());
     }
 
+    @Test
+    @DisplayName("날짜별 남은 수량 조회 - 성공")
+    void getDailyCapacities_success() {
+        // given
+        Product product = Product.of(createRequestDto);
+        ReflectionTestUtils.setField(product, "id", 1L);
+        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+
+        ProductCapacity slotCapacity = mock(ProductCapacity.class);
+        when(slotCapacity.getDate()).thenReturn(LocalDate.now());
+        when(slotCapacity.getStartTime()).thenReturn(LocalTime.of(9, 0));
+        when(slotCapacity.getReserved()).thenReturn(30);
+        when(productCapacityRepository.findByProductIdAndDateBetween(product.getId(), LocalDate.now(), LocalDate.now().plusDays(1)))
+                .thenReturn(List.of(slotCapacity));
+
+        // when
+        List<DailyCapacityResponseDto> capacities = productService.getDailyCapacities(product.getId(), LocalDate.now(), LocalDate.now().plusDays(1));
+
+        // then
+        // 운영일이 아닌 날짜는 제외, 운영 시간이 있는 날의 남은 수량은 운영 시간별 남은 수량의 합
+        assertThat(capacities).hasSize(1);
+        assertThat(capacities.get(0).getDate()).isEqualTo(LocalDate.now());
+        assertThat(capacities.get(0).getRemaining()).isEqualTo(70);
+        assertThat(capacities.get(0).getSlots()).hasSize(1);
+        assertThat(capacities.get(0).getSlots().get(0).getStartTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(capacities.get(0).getSlots().get(0).getRemaining()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("날짜별 남은 수량 조회 - 하루 종일 운영하는 날은 날짜 전체 수량만 반환")
+    void getDailyCapacities_allDay() {
+        // given
+        createRequestDto.getOperationDays().get(0).setOperationDayHours(null);
+        Product product = Product.of(createRequestDto);
+        ReflectionTestUtils.setField(product, "id", 1L);
+        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+
+        ProductCapacity allDayCapacity = mock(ProductCapacity.class);
+        when(allDayCapacity.getDate()).thenReturn(LocalDate.now());
+        when(allDayCapacity.getStartTime()).thenReturn(ProductCapacity.ALL_DAY);
+        when(allDayCapacity.getReserved()).thenReturn(40);
+        when(productCapacityRepository.findByProductIdAndDateBetween(product.getId(), LocalDate.now(), LocalDate.now()))
+                .thenReturn(List.of(allDayCapacity));
+
+        // when
+        List<DailyCapacityResponseDto> capacities = productService.getDailyCapacities(product.getId(), LocalDate.now(), LocalDate.now());
+
+        // then
+        assertThat(capacities).hasSize(1);
+        assertThat(capacities.get(0).getRemaining()).isEqualTo(60);
+        assertThat(capacities.get(0).getSlots()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("날짜별 남은 수량 조회 - 실패: PRODUCT_INVALID_CAPACITY_PERIOD")
+    void getDailyCapacities_fail() {
+        // when
+        // then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> productService.getDailyCapacities(1L, LocalDate.now().plusDays(1), LocalDate.now()));
+        assertThat(exception.getCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_CAPACITY_PERIOD.getCode());
+
+        verify(productRepository, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("모든 상품 조회")
     void getAllProducts() {